@@ -0,0 +1,93 @@
+package madebydap.pathsocial.bench;
+
+import madebydap.pathsocial.model.MomentType;
+import madebydap.pathsocial.ui.style.PathIcons;
+
+import javax.swing.Icon;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Benchmark headless untuk membandingkan biaya paint icon moment.
+ * Mensimulasikan satu frame timeline (icon 20px per card) ditambah
+ * radial menu FAB (icon 18px), sekali dengan icon vektor dan sekali dengan icon cache.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class IconPaintBenchmark {
+
+    /** Jumlah card yang terlihat per frame */
+    private static final int CARDS_PER_FRAME = 30;
+
+    /** Jumlah frame pemanasan JIT */
+    private static final int WARMUP_FRAMES = 2000;
+
+    /** Jumlah frame yang diukur */
+    private static final int MEASURED_FRAMES = 5000;
+
+    /**
+     * Menjalankan benchmark.
+     * 
+     * @param args argumen command line (tidak digunakan)
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        BufferedImage canvas = new BufferedImage(400, 700, BufferedImage.TYPE_INT_ARGB_PRE);
+
+        double vector = run(canvas, false);
+        double cached = run(canvas, true);
+
+        System.out.printf("Vector icons : %8.1f us/frame%n", vector / 1000.0);
+        System.out.printf("Cached icons : %8.1f us/frame%n", cached / 1000.0);
+        System.out.printf("Speedup      : %8.1fx%n", vector / cached);
+    }
+
+    /**
+     * Mengukur rata-rata waktu per frame.
+     * 
+     * @param canvas target gambar offscreen
+     * @param cached true untuk memakai PathIcons.getMomentIcon
+     * @return rata-rata nanodetik per frame
+     */
+    private static double run(BufferedImage canvas, boolean cached) {
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            paintFrame(canvas, cached);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_FRAMES; i++) {
+            paintFrame(canvas, cached);
+        }
+        return (System.nanoTime() - start) / (double) MEASURED_FRAMES;
+    }
+
+    /**
+     * Menggambar satu frame: icon card timeline dan icon radial menu.
+     * 
+     * @param canvas target gambar offscreen
+     * @param cached true untuk memakai icon cache
+     */
+    private static void paintFrame(BufferedImage canvas, boolean cached) {
+        MomentType[] types = MomentType.values();
+        Graphics2D g2 = canvas.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        for (int i = 0; i < CARDS_PER_FRAME; i++) {
+            MomentType type = types[i % types.length];
+            Icon icon = cached
+                ? PathIcons.getMomentIcon(type, 20, Color.WHITE)
+                : PathIcons.createMomentIcon(type, 20, Color.WHITE);
+            icon.paintIcon(null, g2, 26, 10 + (i * 22) % 680);
+        }
+
+        for (MomentType type : types) {
+            if (!type.isUserCreatable()) continue;
+            Icon icon = cached
+                ? PathIcons.getMomentIcon(type, 18, Color.WHITE)
+                : PathIcons.createMomentIcon(type, 18, Color.WHITE);
+            icon.paintIcon(null, g2, 200, 300);
+        }
+
+        g2.dispose();
+    }
+}
@@ -0,0 +1,223 @@
+package madebydap.pathsocial.bench;
+
+import madebydap.pathsocial.model.Moment;
+import madebydap.pathsocial.model.MomentType;
+import madebydap.pathsocial.ui.components.MomentCard;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Benchmark headless untuk mengukur waktu frame saat scroll timeline.
+ * Membangun timeline berisi 5.000 MomentCard, lalu menggambar viewport 400x700
+ * di posisi scroll yang terus bergerak, sekali tanpa dan sekali dengan render cache.
+ * Data aplikasi diarahkan ke direktori sementara agar data pengguna tidak tersentuh.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class ScrollPaintBenchmark {
+
+    /** Jumlah moment di timeline */
+    private static final int MOMENT_COUNT = 5000;
+
+    /** Setiap moment ke-N adalah moment PHOTO dengan gambar */
+    private static final int PHOTO_EVERY = 10;
+
+    /** Lebar viewport */
+    private static final int VIEWPORT_WIDTH = 400;
+
+    /** Tinggi viewport */
+    private static final int VIEWPORT_HEIGHT = 700;
+
+    /** Jarak scroll per frame dalam pixel */
+    private static final int SCROLL_STEP = 40;
+
+    /** Jumlah frame pemanasan JIT */
+    private static final int WARMUP_FRAMES = 1000;
+
+    /** Jumlah frame yang diukur */
+    private static final int MEASURED_FRAMES = 3000;
+
+    /**
+     * Menjalankan benchmark.
+     * 
+     * @param args argumen command line (tidak digunakan)
+     * @throws Exception jika direktori atau gambar sementara gagal dibuat
+     */
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        Path home = Files.createTempDirectory("pathsocial-bench");
+        System.setProperty("user.home", home.toString());
+        String imagePath = createSampleImage(home);
+
+        JPanel timeline = buildTimeline(imagePath);
+        BufferedImage canvas = new BufferedImage(VIEWPORT_WIDTH, VIEWPORT_HEIGHT, BufferedImage.TYPE_INT_RGB);
+
+        long[] uncached = run(timeline, canvas, false);
+        long[] cached = run(timeline, canvas, true);
+
+        System.out.printf("Timeline height: %d px, %d cards%n", timeline.getHeight(), MOMENT_COUNT);
+        report("Uncached cards", uncached);
+        report("Cached cards  ", cached);
+        System.out.printf("Speedup (mean) : %8.1fx%n", mean(uncached) / mean(cached));
+        System.exit(0);
+    }
+
+    /**
+     * Membangun panel timeline berisi MomentCard yang sudah di-layout.
+     * 
+     * @param imagePath path gambar untuk moment PHOTO
+     * @return panel timeline
+     */
+    private static JPanel buildTimeline(String imagePath) {
+        JPanel timeline = new JPanel();
+        timeline.setLayout(new BoxLayout(timeline, BoxLayout.Y_AXIS));
+
+        MomentType[] types = MomentType.values();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < MOMENT_COUNT; i++) {
+            boolean photo = i % PHOTO_EVERY == 0;
+            MomentType type = photo ? MomentType.PHOTO : types[i % types.length];
+            Moment moment = new Moment("moment-" + i, "user-" + (i % 50), type,
+                "Sample moment number " + i, photo ? imagePath : null, now.minusMinutes(i));
+
+            MomentCard card = new MomentCard(moment);
+            card.setFirstInTimeline(i == 0);
+            card.setLastInTimeline(i == MOMENT_COUNT - 1);
+            timeline.add(card);
+        }
+
+        timeline.setSize(VIEWPORT_WIDTH, timeline.getPreferredSize().height);
+        layoutTree(timeline);
+        return timeline;
+    }
+
+    /**
+     * Melakukan layout rekursif tanpa membutuhkan window yang tampil.
+     * 
+     * @param container container yang di-layout
+     */
+    private static void layoutTree(Container container) {
+        container.doLayout();
+        for (Component child : container.getComponents()) {
+            if (child instanceof Container) {
+                layoutTree((Container) child);
+            }
+        }
+    }
+
+    /**
+     * Mengukur waktu setiap frame scroll.
+     * 
+     * @param timeline panel timeline
+     * @param canvas target gambar seukuran viewport
+     * @param renderCache true untuk mengaktifkan render cache di setiap card
+     * @return waktu setiap frame terukur dalam nanodetik
+     */
+    private static long[] run(JPanel timeline, BufferedImage canvas, boolean renderCache) {
+        for (Component child : timeline.getComponents()) {
+            ((MomentCard) child).setRenderCacheEnabled(renderCache);
+        }
+
+        int maxOffset = timeline.getHeight() - VIEWPORT_HEIGHT;
+        int offset = 0;
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            offset = nextOffset(offset, maxOffset);
+            paintFrame(timeline, canvas, offset);
+        }
+
+        long[] frames = new long[MEASURED_FRAMES];
+        for (int i = 0; i < MEASURED_FRAMES; i++) {
+            offset = nextOffset(offset, maxOffset);
+            long start = System.nanoTime();
+            paintFrame(timeline, canvas, offset);
+            frames[i] = System.nanoTime() - start;
+        }
+        return frames;
+    }
+
+    /**
+     * Menghitung posisi scroll berikutnya, kembali ke atas setelah mencapai bawah.
+     * 
+     * @param offset posisi saat ini
+     * @param maxOffset posisi scroll maksimal
+     * @return posisi berikutnya
+     */
+    private static int nextOffset(int offset, int maxOffset) {
+        int next = offset + SCROLL_STEP;
+        return next > maxOffset ? 0 : next;
+    }
+
+    /**
+     * Menggambar bagian timeline yang terlihat pada posisi scroll tertentu,
+     * seperti yang dilakukan JViewport saat repaint penuh.
+     * 
+     * @param timeline panel timeline
+     * @param canvas target gambar seukuran viewport
+     * @param offset posisi scroll vertikal
+     */
+    private static void paintFrame(JPanel timeline, BufferedImage canvas, int offset) {
+        Graphics2D g2 = canvas.createGraphics();
+        g2.translate(0, -offset);
+        g2.setClip(0, offset, VIEWPORT_WIDTH, VIEWPORT_HEIGHT);
+        timeline.paint(g2);
+        g2.dispose();
+    }
+
+    /**
+     * Membuat gambar contoh untuk moment PHOTO.
+     * 
+     * @param dir direktori tujuan
+     * @return path gambar
+     * @throws Exception jika gambar gagal ditulis
+     */
+    private static String createSampleImage(Path dir) throws Exception {
+        BufferedImage image = new BufferedImage(1200, 900, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setPaint(new GradientPaint(0, 0, Color.ORANGE, 1200, 900, Color.BLUE));
+        g2.fillRect(0, 0, 1200, 900);
+        g2.dispose();
+
+        File file = dir.resolve("sample.jpg").toFile();
+        ImageIO.write(image, "jpg", file);
+        return file.getAbsolutePath();
+    }
+
+    /**
+     * Mencetak ringkasan waktu frame.
+     * 
+     * @param label label hasil
+     * @param frames waktu setiap frame dalam nanodetik
+     */
+    private static void report(String label, long[] frames) {
+        long[] sorted = frames.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%s : mean %7.1f us, p50 %7.1f us, p99 %7.1f us, max %8.1f us%n", label,
+            mean(frames) / 1000.0,
+            sorted[sorted.length / 2] / 1000.0,
+            sorted[(int) (sorted.length * 0.99)] / 1000.0,
+            sorted[sorted.length - 1] / 1000.0);
+    }
+
+    /**
+     * Menghitung rata-rata waktu frame.
+     * 
+     * @param frames waktu setiap frame dalam nanodetik
+     * @return rata-rata dalam nanodetik
+     */
+    private static double mean(long[] frames) {
+        long total = 0;
+        for (long frame : frames) {
+            total += frame;
+        }
+        return total / (double) frames.length;
+    }
+}
@@ -0,0 +1,33 @@
+@echo off
+echo ========================================
+echo    Path Social - Benchmark Runner
+echo ========================================
+echo.
+
+if "%~1"=="" (
+    echo Usage: benchmark.bat ^<BenchmarkClass^>
+    echo Example: benchmark.bat IconPaintBenchmark
+    exit /b 1
+)
+
+echo Cleaning old class files...
+if exist bench-bin rmdir /s /q bench-bin
+mkdir bench-bin
+
+echo Compiling sources and benchmarks...
+javac -d bench-bin -cp "lib/*" -sourcepath src src/madebydap/pathsocial/*.java src/madebydap/pathsocial/model/*.java src/madebydap/pathsocial/data/*.java src/madebydap/pathsocial/monitor/*.java src/madebydap/pathsocial/ui/*.java src/madebydap/pathsocial/ui/components/*.java src/madebydap/pathsocial/ui/style/*.java bench/madebydap/pathsocial/bench/*.java
+
+if %errorlevel% neq 0 (
+    echo.
+    echo ========================================
+    echo    Compilation FAILED!
+    echo ========================================
+    pause
+    exit /b %errorlevel%
+)
+
+echo.
+echo Running %~1...
+echo.
+java -Djava.awt.headless=true -cp "bench-bin;lib/*" madebydap.pathsocial.bench.%~1
+pause
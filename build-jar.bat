@@ -19,7 +19,7 @@ mkdir %BUILD_DIR%\classes
 
 :: Compile all Java files
 echo Compiling source files...
-javac -d %BUILD_DIR%\classes -cp "%LIB_DIR%\*" -sourcepath %SRC_DIR% %SRC_DIR%\madebydap\pathsocial\*.java %SRC_DIR%\madebydap\pathsocial\model\*.java %SRC_DIR%\madebydap\pathsocial\data\*.java %SRC_DIR%\madebydap\pathsocial\ui\*.java %SRC_DIR%\madebydap\pathsocial\ui\components\*.java %SRC_DIR%\madebydap\pathsocial\ui\style\*.java
+javac -d %BUILD_DIR%\classes -cp "%LIB_DIR%\*" -sourcepath %SRC_DIR% %SRC_DIR%\madebydap\pathsocial\*.java %SRC_DIR%\madebydap\pathsocial\model\*.java %SRC_DIR%\madebydap\pathsocial\data\*.java %SRC_DIR%\madebydap\pathsocial\monitor\*.java %SRC_DIR%\madebydap\pathsocial\ui\*.java %SRC_DIR%\madebydap\pathsocial\ui\components\*.java %SRC_DIR%\madebydap\pathsocial\ui\style\*.java
 
 if %errorlevel% neq 0 (
     echo.
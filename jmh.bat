@@ -0,0 +1,32 @@
+@echo off
+echo ========================================
+echo    Path Social - JMH Benchmark Runner
+echo ========================================
+echo.
+
+if not exist lib\jmh-core-1.37.jar (
+    echo JMH jars not found in lib\. See "Running Benchmarks" in README.md.
+    exit /b 1
+)
+
+echo Cleaning old class files...
+if exist jmh-bin rmdir /s /q jmh-bin
+mkdir jmh-bin
+
+echo Compiling sources and JMH benchmarks...
+javac -d jmh-bin -cp "lib/*" -sourcepath src src/madebydap/pathsocial/*.java src/madebydap/pathsocial/model/*.java src/madebydap/pathsocial/data/*.java src/madebydap/pathsocial/monitor/*.java src/madebydap/pathsocial/ui/*.java src/madebydap/pathsocial/ui/components/*.java src/madebydap/pathsocial/ui/style/*.java jmh/madebydap/pathsocial/jmh/*.java
+
+if %errorlevel% neq 0 (
+    echo.
+    echo ========================================
+    echo    Compilation FAILED!
+    echo ========================================
+    pause
+    exit /b %errorlevel%
+)
+
+echo.
+echo Running JMH %*
+echo.
+java -Djava.awt.headless=true -cp "jmh-bin;lib/*" org.openjdk.jmh.Main %*
+pause
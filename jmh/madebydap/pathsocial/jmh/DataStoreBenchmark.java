@@ -0,0 +1,375 @@
+package madebydap.pathsocial.jmh;
+
+import madebydap.pathsocial.data.DataStore;
+import madebydap.pathsocial.data.FriendSuggestions;
+import madebydap.pathsocial.data.PersistenceManager;
+import madebydap.pathsocial.model.Moment;
+import madebydap.pathsocial.model.MomentType;
+import madebydap.pathsocial.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH untuk jalur query dan mutasi DataStore.
+ * Dataset sintetis dibuat sekali per kombinasi parameter dan ditulis ke folder
+ * sementara. Benchmark query memakai satu DataStore per trial; benchmark mutasi
+ * mendapat salinan data baru di setiap iterasi agar ukuran data tidak terus tumbuh.
+ * Setiap invocation memakai pengguna berbeda, sehingga cache timeline DataStore
+ * tidak menutupi biaya membangun hasil (kecuali timelineCached).
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataStoreBenchmark {
+
+    /** Jumlah pengguna, query, dan pasangan yang disiapkan untuk dirotasi */
+    private static final int ROTATION = 1024;
+
+    /**
+     * Dataset sintetis dan parameter ukurannya.
+     */
+    @State(Scope.Benchmark)
+    public static class Dataset {
+
+        /** Jumlah pengguna */
+        @Param({"1000", "10000"})
+        public int userCount;
+
+        /** Rata-rata jumlah teman per pengguna */
+        @Param({"10", "50"})
+        public int friendDegree;
+
+        /** Jumlah moment */
+        @Param({"10000", "100000"})
+        public int momentCount;
+
+        /** Folder berisi data.json asli yang tidak pernah diubah */
+        Path pristineDir;
+
+        /** Dataset yang ditulis ke pristineDir */
+        SyntheticDataset data;
+
+        /**
+         * Membuat dataset dan menulisnya ke folder sementara.
+         * 
+         * @throws IOException jika folder sementara gagal dibuat
+         */
+        @Setup(Level.Trial)
+        public void generate() throws IOException {
+            data = SyntheticDataset.generate(userCount, friendDegree, momentCount);
+            pristineDir = TempDirs.create();
+            data.writeTo(pristineDir);
+        }
+
+        /**
+         * Menghapus folder sementara.
+         * 
+         * @throws IOException jika folder gagal dihapus
+         */
+        @TearDown(Level.Trial)
+        public void cleanup() throws IOException {
+            TempDirs.deleteRecursively(pristineDir);
+        }
+
+        /**
+         * Menyalin data.json asli ke folder kerja baru.
+         * 
+         * @return folder kerja
+         * @throws IOException jika penyalinan gagal
+         */
+        Path copyToWorkDir() throws IOException {
+            Path workDir = TempDirs.create();
+            Files.copy(pristineDir.resolve("data.json"), workDir.resolve("data.json"),
+                StandardCopyOption.REPLACE_EXISTING);
+            return workDir;
+        }
+    }
+
+    /**
+     * DataStore untuk benchmark query, dimuat sekali per trial.
+     */
+    @State(Scope.Benchmark)
+    public static class QueryState {
+
+        /** DataStore yang diuji */
+        DataStore store;
+
+        /** Folder kerja */
+        Path workDir;
+
+        /** ID pengguna yang dirotasi */
+        String[] userIds;
+
+        /** Username pengguna yang dirotasi */
+        String[] usernames;
+
+        /** Query pencarian yang dirotasi */
+        String[] queries;
+
+        /** Posisi rotasi */
+        int cursor;
+
+        /**
+         * Memuat DataStore dan menyiapkan input rotasi.
+         * 
+         * @param dataset dataset benchmark
+         * @throws IOException jika folder kerja gagal dibuat
+         */
+        @Setup(Level.Trial)
+        public void load(Dataset dataset) throws IOException {
+            workDir = dataset.copyToWorkDir();
+            store = new DataStore(new PersistenceManager(workDir));
+
+            Random random = new Random(7);
+            List<User> users = new ArrayList<>(dataset.data.getUsers().values());
+            userIds = new String[ROTATION];
+            usernames = new String[ROTATION];
+            queries = new String[ROTATION];
+            for (int i = 0; i < ROTATION; i++) {
+                User user = users.get(random.nextInt(users.size()));
+                userIds[i] = user.getId();
+                usernames[i] = user.getUsername();
+                // Mix of common name fragments and specific usernames
+                queries[i] = i % 2 == 0
+                    ? user.getDisplayName().substring(0, 3).toLowerCase()
+                    : user.getUsername().substring(0, 8);
+            }
+        }
+
+        /**
+         * Menghapus folder kerja.
+         * 
+         * @throws IOException jika folder gagal dihapus
+         */
+        @TearDown(Level.Trial)
+        public void cleanup() throws IOException {
+            TempDirs.deleteRecursively(workDir);
+        }
+
+        /**
+         * Memajukan posisi rotasi.
+         * 
+         * @return indeks input berikutnya
+         */
+        int next() {
+            cursor = (cursor + 1) & (ROTATION - 1);
+            return cursor;
+        }
+    }
+
+    /**
+     * DataStore untuk benchmark mutasi, dimuat ulang dari data asli setiap iterasi.
+     */
+    @State(Scope.Benchmark)
+    public static class MutationState {
+
+        /** DataStore yang diuji */
+        DataStore store;
+
+        /** Folder kerja iterasi ini */
+        Path workDir;
+
+        /** ID pengguna yang dirotasi sebagai penulis moment */
+        String[] userIds;
+
+        /** Pasangan pengguna yang belum berteman: [i][0] dan [i][1] */
+        String[][] friendPairs;
+
+        /** Posisi rotasi */
+        int cursor;
+
+        /** Penghitung untuk username unik */
+        long registered;
+
+        /**
+         * Memuat salinan data baru dan menyiapkan input rotasi.
+         * 
+         * @param dataset dataset benchmark
+         * @throws IOException jika folder kerja gagal dibuat
+         */
+        @Setup(Level.Iteration)
+        public void load(Dataset dataset) throws IOException {
+            workDir = dataset.copyToWorkDir();
+            store = new DataStore(new PersistenceManager(workDir));
+
+            Random random = new Random(11);
+            List<User> users = new ArrayList<>(dataset.data.getUsers().values());
+            userIds = new String[ROTATION];
+            friendPairs = new String[ROTATION][];
+            for (int i = 0; i < ROTATION; i++) {
+                userIds[i] = users.get(random.nextInt(users.size())).getId();
+                friendPairs[i] = pickNonFriends(users, random);
+            }
+        }
+
+        /**
+         * Menghapus folder kerja iterasi ini.
+         * 
+         * @throws IOException jika folder gagal dihapus
+         */
+        @TearDown(Level.Iteration)
+        public void cleanup() throws IOException {
+            TempDirs.deleteRecursively(workDir);
+        }
+
+        /**
+         * Memajukan posisi rotasi.
+         * 
+         * @return indeks input berikutnya
+         */
+        int next() {
+            cursor = (cursor + 1) & (ROTATION - 1);
+            return cursor;
+        }
+
+        /**
+         * Memilih dua pengguna acak yang belum berteman.
+         * 
+         * @param users daftar pengguna
+         * @param random generator acak
+         * @return pasangan ID pengguna
+         */
+        private static String[] pickNonFriends(List<User> users, Random random) {
+            while (true) {
+                User a = users.get(random.nextInt(users.size()));
+                User b = users.get(random.nextInt(users.size()));
+                if (a != b && !a.isFriend(b.getId())) {
+                    return new String[] {a.getId(), b.getId()};
+                }
+            }
+        }
+    }
+
+    // ==================== Query ====================
+
+    /**
+     * Membangun timeline pengguna yang berbeda di setiap invocation (cache miss).
+     * 
+     * @param state state query
+     * @return timeline
+     */
+    @Benchmark
+    public List<Moment> timeline(QueryState state) {
+        return state.store.getTimelineMoments(state.userIds[state.next()]);
+    }
+
+    /**
+     * Mengambil timeline pengguna yang sama berulang kali (cache hit).
+     * 
+     * @param state state query
+     * @return timeline
+     */
+    @Benchmark
+    public List<Moment> timelineCached(QueryState state) {
+        return state.store.getTimelineMoments(state.userIds[0]);
+    }
+
+    /**
+     * Mengambil moment milik pengguna yang berbeda di setiap invocation.
+     * 
+     * @param state state query
+     * @return moment pengguna
+     */
+    @Benchmark
+    public List<Moment> userMoments(QueryState state) {
+        return state.store.getUserMoments(state.userIds[state.next()]);
+    }
+
+    /**
+     * Mengambil saran teman untuk pengguna yang berbeda di setiap invocation.
+     * 
+     * @param state state query
+     * @return saran beserta jumlah teman bersamanya
+     */
+    @Benchmark
+    public List<FriendSuggestions.Suggestion> friendSuggestions(QueryState state) {
+        return state.store.getFriendSuggestions(state.userIds[state.next()], 10);
+    }
+
+    /**
+     * Mencari pengguna berdasarkan potongan nama atau username.
+     * 
+     * @param state state query
+     * @return hasil pencarian
+     */
+    @Benchmark
+    public List<User> searchUsers(QueryState state) {
+        return state.store.searchUsers(state.queries[state.next()]);
+    }
+
+    /**
+     * Login dengan username dan password yang benar.
+     * 
+     * @param state state query
+     * @return pengguna yang login
+     */
+    @Benchmark
+    public User login(QueryState state) {
+        return state.store.login(state.usernames[state.next()], SyntheticDataset.PASSWORD);
+    }
+
+    // ==================== Mutasi ====================
+
+    /**
+     * Mendaftarkan pengguna baru dengan username unik.
+     * 
+     * @param state state mutasi
+     * @return pengguna baru
+     */
+    @Benchmark
+    public User register(MutationState state) {
+        String username = "bench" + state.registered++;
+        return state.store.register(username, SyntheticDataset.PASSWORD, "Bench User");
+    }
+
+    /**
+     * Menambahkan pertemanan antara dua pengguna yang belum berteman.
+     * Pasangan yang sudah dipakai di iterasi yang sama akan gagal lebih cepat.
+     * 
+     * @param state state mutasi
+     * @return true jika pertemanan ditambahkan
+     */
+    @Benchmark
+    public boolean addFriend(MutationState state) {
+        String[] pair = state.friendPairs[state.next()];
+        return state.store.addFriend(pair[0], pair[1]);
+    }
+
+    /**
+     * Menambahkan moment teks baru.
+     * 
+     * @param state state mutasi
+     * @return moment yang ditambahkan
+     */
+    @Benchmark
+    public Moment addMoment(MutationState state) {
+        Moment moment = new Moment(state.userIds[state.next()], MomentType.THOUGHT, "Benchmark moment");
+        state.store.addMoment(moment, false);
+        return moment;
+    }
+}
@@ -0,0 +1,246 @@
+package madebydap.pathsocial.jmh;
+
+import madebydap.pathsocial.data.PersistenceManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH untuk PersistenceManager: save, load, copyImage, dan hasExternalChanges.
+ * Mode Throughput dan SampleTime dijalankan bersamaan sehingga hasilnya memuat
+ * throughput dan persentil latensi (p99). Jalankan dengan -prof gc untuk alokasi.
+ * Ukuran data.json untuk setiap kombinasi parameter dicetak saat setup.
+ * Semua file ditulis ke folder sementara, bukan ~/.pathsocial.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PersistenceBenchmark {
+
+    /** Jumlah pengguna di setiap dataset */
+    private static final int USER_COUNT = 1000;
+
+    /** Derajat pertemanan di setiap dataset */
+    private static final int FRIEND_DEGREE = 10;
+
+    /**
+     * Data yang disimpan dan dimuat, per ukuran dan profil string.
+     */
+    @State(Scope.Benchmark)
+    public static class DataState {
+
+        /** Jumlah moment */
+        @Param({"1000", "10000", "100000", "1000000"})
+        public int momentCount;
+
+        /** Profil string isi moment */
+        @Param({"ASCII", "ESCAPING", "UNICODE"})
+        public SyntheticDataset.ContentProfile profile;
+
+        /** Dataset yang disimpan */
+        SyntheticDataset data;
+
+        /** Folder kerja */
+        Path dir;
+
+        /** Manager yang diuji */
+        PersistenceManager persistence;
+
+        /**
+         * Membuat dataset, menulisnya sekali, dan mencetak ukuran file.
+         * 
+         * @throws IOException jika folder sementara gagal dibuat
+         */
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            data = SyntheticDataset.generate(SyntheticDataset.DEFAULT_SEED, USER_COUNT, FRIEND_DEGREE,
+                momentCount, profile);
+            dir = TempDirs.create();
+            persistence = new PersistenceManager(dir);
+            persistence.save(data.getUsers(), data.getMoments());
+
+            long bytes = Files.size(dir.resolve("data.json"));
+            int loaded = persistence.load().moments.size();
+            System.out.printf("%n[Persistence] %s, %d moments: data.json %,d bytes (%.1f bytes/moment)%n",
+                profile, momentCount, bytes, (double) bytes / momentCount);
+            if (loaded != momentCount) {
+                System.out.printf("[Persistence] WARNING: load() returned %d of %d moments%n", loaded, momentCount);
+            }
+        }
+
+        /**
+         * Menghapus folder kerja.
+         * 
+         * @throws IOException jika folder gagal dihapus
+         */
+        @TearDown(Level.Trial)
+        public void cleanup() throws IOException {
+            TempDirs.deleteRecursively(dir);
+        }
+    }
+
+    /**
+     * data.json kecil untuk hasExternalChanges, yang biayanya tidak bergantung pada ukuran data.
+     */
+    @State(Scope.Benchmark)
+    public static class WatchState {
+
+        /** Folder kerja */
+        Path dir;
+
+        /** Manager yang diuji */
+        PersistenceManager persistence;
+
+        /**
+         * Menulis data.json kecil.
+         * 
+         * @throws IOException jika folder sementara gagal dibuat
+         */
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            SyntheticDataset data = SyntheticDataset.generate(USER_COUNT, FRIEND_DEGREE, 1000);
+            dir = TempDirs.create();
+            persistence = new PersistenceManager(dir);
+            persistence.save(data.getUsers(), data.getMoments());
+        }
+
+        /**
+         * Menghapus folder kerja.
+         * 
+         * @throws IOException jika folder gagal dihapus
+         */
+        @TearDown(Level.Trial)
+        public void cleanup() throws IOException {
+            TempDirs.deleteRecursively(dir);
+        }
+    }
+
+    /**
+     * File gambar sumber untuk copyImage.
+     */
+    @State(Scope.Benchmark)
+    public static class ImageState {
+
+        /** Ukuran file gambar dalam KB */
+        @Param({"256", "4096"})
+        public int imageKb;
+
+        /** Folder kerja */
+        Path dir;
+
+        /** Manager yang diuji */
+        PersistenceManager persistence;
+
+        /** Path file sumber */
+        String sourcePath;
+
+        /** Path hasil copy terakhir, dihapus setelah setiap invocation */
+        String copiedPath;
+
+        /**
+         * Membuat file sumber berisi byte acak (copyImage tidak men-decode gambar).
+         * 
+         * @throws IOException jika file gagal ditulis
+         */
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            dir = TempDirs.create();
+            persistence = new PersistenceManager(dir.resolve("data"));
+
+            byte[] bytes = new byte[imageKb * 1024];
+            new Random(3).nextBytes(bytes);
+            Path source = dir.resolve("source.jpg");
+            Files.write(source, bytes);
+            sourcePath = source.toString();
+        }
+
+        /**
+         * Menghapus hasil copy agar setiap invocation benar-benar menyalin,
+         * bukan hanya menemukan duplikat berdasarkan hash.
+         * 
+         * @throws IOException jika file gagal dihapus
+         */
+        @TearDown(Level.Invocation)
+        public void removeCopy() throws IOException {
+            if (copiedPath != null && !copiedPath.equals(sourcePath)) {
+                Files.deleteIfExists(Paths.get(copiedPath));
+            }
+        }
+
+        /**
+         * Menghapus folder kerja.
+         * 
+         * @throws IOException jika folder gagal dihapus
+         */
+        @TearDown(Level.Trial)
+        public void cleanup() throws IOException {
+            TempDirs.deleteRecursively(dir);
+        }
+    }
+
+    /**
+     * Menyimpan seluruh dataset ke data.json.
+     * 
+     * @param state state data
+     */
+    @Benchmark
+    public void save(DataState state) {
+        state.persistence.save(state.data.getUsers(), state.data.getMoments());
+    }
+
+    /**
+     * Memuat seluruh data.json.
+     * 
+     * @param state state data
+     * @return hasil load
+     */
+    @Benchmark
+    public PersistenceManager.LoadResult load(DataState state) {
+        return state.persistence.load();
+    }
+
+    /**
+     * Memeriksa perubahan eksternal pada data.json (dipanggil file watcher setiap 2 detik).
+     * 
+     * @param state state data
+     * @return true jika ada perubahan
+     */
+    @Benchmark
+    public boolean hasExternalChanges(WatchState state) {
+        return state.persistence.hasExternalChanges();
+    }
+
+    /**
+     * Menyalin dan meng-hash file gambar ke folder aplikasi.
+     * 
+     * @param state state gambar
+     * @return path hasil copy
+     */
+    @Benchmark
+    public String copyImage(ImageState state) {
+        state.copiedPath = state.persistence.copyImage(state.sourcePath);
+        return state.copiedPath;
+    }
+}
@@ -0,0 +1,451 @@
+package madebydap.pathsocial.jmh;
+
+import madebydap.pathsocial.data.PersistenceManager;
+import madebydap.pathsocial.model.Moment;
+import madebydap.pathsocial.model.MomentType;
+import madebydap.pathsocial.model.User;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generator graf sosial dan aktivitas yang realistis untuk load test dan soak test.
+ * Berbeda dari SyntheticDataset yang seragam, generator ini membuat:
+ * derajat pertemanan power-law (banyak pengguna dengan sedikit teman, sedikit
+ * pengguna populer) yang dibatasi User.MAX_FRIENDS; posting yang datang dalam
+ * sesi (burst) dengan aktivitas per pengguna yang juga power-law dan campuran
+ * MomentType yang tidak merata; serta moment PHOTO dengan file JPEG asli berbagai
+ * ukuran yang disalin lewat PersistenceManager.copyImage.
+ * Hasilnya deterministik untuk seed dan parameter yang sama.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class SocialGraphGenerator {
+
+    /** Eksponen distribusi power-law untuk derajat pertemanan */
+    private static final double DEGREE_EXPONENT = 2.2;
+
+    /** Eksponen distribusi power-law untuk aktivitas posting per pengguna */
+    private static final double ACTIVITY_EXPONENT = 1.8;
+
+    /** Rata-rata jumlah posting per sesi */
+    private static final double POSTS_PER_SESSION = 3.0;
+
+    /** Rata-rata jeda antar posting dalam satu sesi (menit) */
+    private static final double MINUTES_BETWEEN_POSTS = 4.0;
+
+    /** Rata-rata jeda antar sesi (jam) */
+    private static final double HOURS_BETWEEN_SESSIONS = 9.0;
+
+    /** Timestamp moment paling baru */
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    /** Ukuran gambar untuk moment PHOTO: dari foto kecil sampai foto kamera */
+    private static final int[][] PHOTO_SIZES = {
+        {640, 480}, {1080, 1080}, {1280, 960}, {1920, 1080}, {3024, 4032}, {4000, 3000}
+    };
+
+    /** Campuran MomentType (tanpa FRIENDSHIP, yang dibuat dari pertemanan) */
+    private static final MomentType[] TYPE_MIX = {
+        MomentType.THOUGHT, MomentType.PHOTO, MomentType.MUSIC, MomentType.LOCATION,
+        MomentType.AWAKE, MomentType.ASLEEP
+    };
+
+    /** Bobot campuran MomentType, sejajar dengan TYPE_MIX */
+    private static final double[] TYPE_WEIGHTS = {0.30, 0.18, 0.17, 0.15, 0.10, 0.10};
+
+    /** Seed generator acak */
+    private final long seed;
+
+    /** Jumlah pengguna */
+    private final int userCount;
+
+    /** Jumlah moment (termasuk moment FRIENDSHIP) */
+    private final int momentCount;
+
+    /** Batas derajat pertemanan */
+    private int maxFriends = User.MAX_FRIENDS;
+
+    /** Jumlah file gambar berbeda yang dipakai bergantian oleh moment PHOTO */
+    private int photoPoolSize = 24;
+
+    /**
+     * Konstruktor SocialGraphGenerator.
+     * 
+     * @param seed seed generator acak
+     * @param userCount jumlah pengguna
+     * @param momentCount jumlah moment
+     */
+    public SocialGraphGenerator(long seed, int userCount, int momentCount) {
+        this.seed = seed;
+        this.userCount = userCount;
+        this.momentCount = momentCount;
+    }
+
+    /**
+     * Mengatur batas derajat pertemanan. Nilai di atas User.MAX_FRIENDS dibatasi,
+     * karena User dan PersistenceManager menolak teman melebihi batas tersebut.
+     * 
+     * @param maxFriends batas derajat
+     * @return generator ini
+     */
+    public SocialGraphGenerator setMaxFriends(int maxFriends) {
+        if (maxFriends > User.MAX_FRIENDS) {
+            System.err.println("[Generator] maxFriends " + maxFriends + " capped at User.MAX_FRIENDS ("
+                + User.MAX_FRIENDS + ")");
+        }
+        this.maxFriends = Math.max(1, Math.min(maxFriends, User.MAX_FRIENDS));
+        return this;
+    }
+
+    /**
+     * Mengatur jumlah file gambar berbeda untuk moment PHOTO (0 untuk tanpa file gambar).
+     * 
+     * @param photoPoolSize jumlah file gambar
+     * @return generator ini
+     */
+    public SocialGraphGenerator setPhotoPoolSize(int photoPoolSize) {
+        this.photoPoolSize = Math.max(0, photoPoolSize);
+        return this;
+    }
+
+    /**
+     * Membuat dataset dan menulisnya ke folder data lewat PersistenceManager:
+     * gambar ke folder images (content-addressed) dan data ke data.json.
+     * 
+     * @param baseDir folder data tujuan
+     * @return dataset yang ditulis
+     * @throws IOException jika file gambar gagal dibuat
+     */
+    public SyntheticDataset generate(Path baseDir) throws IOException {
+        Random random = new Random(seed);
+        PersistenceManager persistence = new PersistenceManager(baseDir);
+
+        List<User> users = createUsers(random);
+        int links = connectPowerLaw(users, random);
+        List<String> photos = createPhotoPool(persistence, random);
+        List<Moment> moments = createMoments(users, photos, random);
+
+        Map<String, User> byId = new LinkedHashMap<>();
+        for (User user : users) {
+            byId.put(user.getId(), user);
+        }
+        persistence.save(byId, moments);
+
+        System.err.printf("[Generator] %d users, %d friendships (max degree %d), %d moments, %d photo files%n",
+            users.size(), links, maxDegree(users), moments.size(), photos.size());
+        return new SyntheticDataset(byId, moments);
+    }
+
+    /**
+     * Membuat pengguna dengan ID dan username yang sama seperti SyntheticDataset.
+     * 
+     * @param random generator acak
+     * @return daftar pengguna
+     */
+    private List<User> createUsers(Random random) {
+        SyntheticDataset names = SyntheticDataset.generate(random.nextLong(), userCount, 0, 0,
+            SyntheticDataset.ContentProfile.ASCII);
+        return new ArrayList<>(names.getUsers().values());
+    }
+
+    /**
+     * Membuat pertemanan dengan configuration model: setiap pengguna mendapat target
+     * derajat dari distribusi power-law, lalu "stub" pertemanan dipasangkan secara acak.
+     * Pasangan yang tidak valid (diri sendiri, duplikat, penuh) dilewati.
+     * 
+     * @param users daftar pengguna
+     * @param random generator acak
+     * @return jumlah pertemanan yang dibuat
+     */
+    private int connectPowerLaw(List<User> users, Random random) {
+        List<Integer> stubs = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            int degree = (int) Math.min(maxFriends, Math.floor(powerLaw(random, DEGREE_EXPONENT)));
+            for (int d = 0; d < degree; d++) {
+                stubs.add(i);
+            }
+        }
+        Collections.shuffle(stubs, random);
+
+        int links = 0;
+        for (int i = 0; i + 1 < stubs.size(); i += 2) {
+            User a = users.get(stubs.get(i));
+            User b = users.get(stubs.get(i + 1));
+            if (a == b || a.isFriend(b.getId()) || !a.canAddFriend() || !b.canAddFriend()) continue;
+            a.addFriend(b.getId());
+            b.addFriend(a.getId());
+            links++;
+        }
+        return links;
+    }
+
+    /**
+     * Membuat file JPEG berbagai ukuran dan menyalinnya ke folder gambar aplikasi.
+     * 
+     * @param persistence manager persistensi tujuan
+     * @param random generator acak
+     * @return path gambar yang tersimpan
+     * @throws IOException jika gambar gagal ditulis
+     */
+    private List<String> createPhotoPool(PersistenceManager persistence, Random random) throws IOException {
+        List<String> photos = new ArrayList<>();
+        if (photoPoolSize == 0) return photos;
+
+        Path scratch = TempDirs.create();
+        try {
+            for (int i = 0; i < photoPoolSize; i++) {
+                int[] size = PHOTO_SIZES[i % PHOTO_SIZES.length];
+                Path file = scratch.resolve("photo-" + i + ".jpg");
+                ImageIO.write(paintPhoto(size[0], size[1], random), "jpg", file.toFile());
+                String stored = persistence.copyImage(file.toString());
+                if (stored != null) {
+                    photos.add(stored);
+                }
+            }
+        } finally {
+            TempDirs.deleteRecursively(scratch);
+        }
+        return photos;
+    }
+
+    /**
+     * Menggambar foto sintetis: gradien dengan bentuk acak agar ukuran JPEG realistis.
+     * 
+     * @param width lebar gambar
+     * @param height tinggi gambar
+     * @param random generator acak
+     * @return gambar
+     */
+    private static BufferedImage paintPhoto(int width, int height, Random random) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setPaint(new GradientPaint(0, 0, new Color(random.nextInt(0xFFFFFF)),
+            width, height, new Color(random.nextInt(0xFFFFFF))));
+        g2.fillRect(0, 0, width, height);
+        for (int i = 0; i < 200; i++) {
+            g2.setColor(new Color(random.nextInt(0xFFFFFF)));
+            int w = 8 + random.nextInt(width / 6);
+            int h = 8 + random.nextInt(height / 6);
+            g2.fillOval(random.nextInt(width), random.nextInt(height), w, h);
+        }
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Membuat moment dalam sesi-sesi posting per pengguna, lalu mengurutkannya dari terbaru.
+     * Sebagian moment adalah FRIENDSHIP untuk pertemanan yang ada.
+     * 
+     * @param users daftar pengguna
+     * @param photos path gambar untuk moment PHOTO
+     * @param random generator acak
+     * @return daftar moment, diurutkan dari terbaru
+     */
+    private List<Moment> createMoments(List<User> users, List<String> photos, Random random) {
+        // Activity weights: a few users post a lot, most post rarely
+        double[] cumulative = new double[users.size()];
+        double total = 0;
+        for (int i = 0; i < users.size(); i++) {
+            total += powerLaw(random, ACTIVITY_EXPONENT);
+            cumulative[i] = total;
+        }
+
+        List<Moment> moments = new ArrayList<>(momentCount);
+        int friendshipMoments = Math.min(momentCount / 20, countFriendships(users));
+        for (User user : users) {
+            for (String friendId : user.getFriendIds()) {
+                if (moments.size() >= friendshipMoments) break;
+                if (user.getId().compareTo(friendId) > 0) continue;
+                LocalDateTime time = BASE_TIME.minusMinutes(random.nextInt(60 * 24 * 90));
+                moments.add(new Moment(momentId(moments.size()), user.getId(), MomentType.FRIENDSHIP,
+                    displayNameOf(users, friendId), null, time));
+            }
+        }
+
+        while (moments.size() < momentCount) {
+            User author = users.get(pick(cumulative, total, random));
+            // Session start: exponential gap back in time from the base
+            LocalDateTime time = BASE_TIME.minusMinutes((long) (exponential(random, HOURS_BETWEEN_SESSIONS) * 60
+                * (1 + random.nextInt(10))));
+            int posts = 1 + (int) exponential(random, POSTS_PER_SESSION - 1);
+            for (int p = 0; p < posts && moments.size() < momentCount; p++) {
+                MomentType type = pickType(random);
+                String imagePath = null;
+                if (type == MomentType.PHOTO && !photos.isEmpty()) {
+                    imagePath = photos.get(random.nextInt(photos.size()));
+                }
+                moments.add(new Moment(momentId(moments.size()), author.getId(), type,
+                    contentFor(type, random), imagePath, time));
+                time = time.plusSeconds((long) (exponential(random, MINUTES_BETWEEN_POSTS) * 60) + 1);
+            }
+        }
+
+        moments.sort((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()));
+        return moments;
+    }
+
+    /**
+     * Membuat isi moment sesuai tipenya.
+     * 
+     * @param type tipe moment
+     * @param random generator acak
+     * @return isi moment
+     */
+    private static String contentFor(MomentType type, Random random) {
+        switch (type) {
+            case MUSIC:
+                return "Track " + (1 + random.nextInt(500));
+            case LOCATION:
+            case AWAKE:
+            case ASLEEP:
+                return new String[] {"Jakarta", "Bandung", "Surabaya", "Bali", "Yogyakarta"}[random.nextInt(5)];
+            case PHOTO:
+                return random.nextBoolean() ? "" : "Look at this";
+            default:
+                return "Thought #" + random.nextInt(10_000);
+        }
+    }
+
+    /**
+     * Memilih MomentType sesuai bobot campuran.
+     * 
+     * @param random generator acak
+     * @return tipe moment
+     */
+    private static MomentType pickType(Random random) {
+        double r = random.nextDouble();
+        for (int i = 0; i < TYPE_MIX.length; i++) {
+            r -= TYPE_WEIGHTS[i];
+            if (r < 0) return TYPE_MIX[i];
+        }
+        return TYPE_MIX[0];
+    }
+
+    /**
+     * Memilih indeks berdasarkan bobot kumulatif.
+     * 
+     * @param cumulative bobot kumulatif
+     * @param total total bobot
+     * @param random generator acak
+     * @return indeks terpilih
+     */
+    private static int pick(double[] cumulative, double total, Random random) {
+        double r = random.nextDouble() * total;
+        int lo = 0;
+        int hi = cumulative.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cumulative[mid] < r) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Sampel distribusi Pareto dengan nilai minimal 1.
+     * 
+     * @param random generator acak
+     * @param exponent eksponen distribusi (lebih besar berarti ekor lebih tipis)
+     * @return sampel (minimal 1)
+     */
+    private static double powerLaw(Random random, double exponent) {
+        return Math.pow(1 - random.nextDouble(), -1.0 / (exponent - 1));
+    }
+
+    /**
+     * Sampel distribusi eksponensial.
+     * 
+     * @param random generator acak
+     * @param mean rata-rata
+     * @return sampel
+     */
+    private static double exponential(Random random, double mean) {
+        return -mean * Math.log(1 - random.nextDouble());
+    }
+
+    /**
+     * Menghitung jumlah pertemanan (setiap pasangan dihitung sekali).
+     * 
+     * @param users daftar pengguna
+     * @return jumlah pertemanan
+     */
+    private static int countFriendships(List<User> users) {
+        int total = 0;
+        for (User user : users) {
+            total += user.getFriendCount();
+        }
+        return total / 2;
+    }
+
+    /**
+     * Mengambil derajat pertemanan terbesar.
+     * 
+     * @param users daftar pengguna
+     * @return derajat terbesar
+     */
+    private static int maxDegree(List<User> users) {
+        int max = 0;
+        for (User user : users) {
+            max = Math.max(max, user.getFriendCount());
+        }
+        return max;
+    }
+
+    /**
+     * Mengambil display name pengguna berdasarkan ID sintetis.
+     * 
+     * @param users daftar pengguna berurutan indeks
+     * @param userId ID pengguna
+     * @return display name
+     */
+    private static String displayNameOf(List<User> users, String userId) {
+        return users.get(Integer.parseInt(userId.substring(2))).getDisplayName();
+    }
+
+    /**
+     * Membuat ID moment sintetis.
+     * 
+     * @param index indeks moment
+     * @return ID moment
+     */
+    private static String momentId(int index) {
+        return String.format("m-%08d", index);
+    }
+
+    /**
+     * Membuat dataset ke folder yang diberikan dari command line.
+     * Argumen: folder [users] [moments] [seed] [maxFriends] [photoPool].
+     * 
+     * @param args argumen command line
+     * @throws IOException jika penulisan gagal
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: SocialGraphGenerator <dir> [users] [moments] [seed] [maxFriends] [photoPool]");
+            System.exit(1);
+        }
+        Path dir = Path.of(args[0]);
+        int users = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int moments = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : SyntheticDataset.DEFAULT_SEED;
+
+        Files.createDirectories(dir);
+        SocialGraphGenerator generator = new SocialGraphGenerator(seed, users, moments);
+        if (args.length > 4) generator.setMaxFriends(Integer.parseInt(args[4]));
+        if (args.length > 5) generator.setPhotoPoolSize(Integer.parseInt(args[5]));
+        generator.generate(dir);
+    }
+}
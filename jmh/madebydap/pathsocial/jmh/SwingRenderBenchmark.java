@@ -0,0 +1,535 @@
+package madebydap.pathsocial.jmh;
+
+import madebydap.pathsocial.data.DataStore;
+import madebydap.pathsocial.model.Moment;
+import madebydap.pathsocial.model.MomentType;
+import madebydap.pathsocial.ui.BasePanel;
+import madebydap.pathsocial.ui.FriendsPanel;
+import madebydap.pathsocial.ui.ProfilePanel;
+import madebydap.pathsocial.ui.TimelinePanel;
+import madebydap.pathsocial.ui.components.MomentCard;
+import madebydap.pathsocial.ui.components.MomentFeedPanel;
+import madebydap.pathsocial.ui.style.PathColors;
+import madebydap.pathsocial.ui.style.PathIcons;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH headless untuk biaya UI Swing tanpa display.
+ * Membangun TimelinePanel, ProfilePanel, dan FriendsPanel dari dataset sintetis,
+ * lalu mengukur konstruksi, refresh(), layout, dan paint penuh viewport timeline
+ * di beberapa posisi scroll ke BufferedImage. Paint MomentCard dan PathIcons juga
+ * diukur tersendiri; jalankan dengan -prof gc untuk alokasi per frame.
+ * 
+ * Konstruksi, refresh, dan layout berjalan di EDT lewat invokeAndWait. Paint dilakukan
+ * langsung dari thread benchmark seperti ScrollPaintBenchmark, karena EDT sedang
+ * idle dan handoff ke EDT akan mendominasi waktu paint yang singkat.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx2g"})
+public class SwingRenderBenchmark {
+
+    /** Lebar viewport aplikasi */
+    private static final int WIDTH = 400;
+
+    /** Tinggi area konten aplikasi */
+    private static final int HEIGHT = 700;
+
+    /** Jumlah pengguna di dataset */
+    private static final int USER_COUNT = 1000;
+
+    /** Derajat pertemanan di dataset */
+    private static final int FRIEND_DEGREE = 50;
+
+    /** Ukuran ikon moment di MomentCard */
+    private static final int ICON_SIZE = 24;
+
+    /**
+     * Aplikasi headless dengan pengguna yang sudah login dan panel yang sudah di-layout.
+     */
+    @State(Scope.Benchmark)
+    public static class Ui {
+
+        /** Jumlah moment di dataset */
+        @Param({"1000", "10000"})
+        public int momentCount;
+
+        /** Folder home sementara */
+        Path home;
+
+        /** Panel timeline dengan semua moment timeline sudah dibuat card-nya */
+        TimelinePanel timeline;
+
+        /** Panel profil */
+        ProfilePanel profile;
+
+        /** Panel teman */
+        FriendsPanel friends;
+
+        /** Scroll pane timeline */
+        JScrollPane timelineScroll;
+
+        /** Target paint seukuran aplikasi */
+        BufferedImage canvas;
+
+        /**
+         * Menulis dataset ke home sementara, login, dan membangun semua panel.
+         * 
+         * @throws Exception jika setup gagal
+         */
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            home = TempDirs.create();
+            System.setProperty("user.home", home.toString());
+            SyntheticDataset.generate(USER_COUNT, FRIEND_DEGREE, momentCount)
+                .writeTo(home.resolve(".pathsocial"));
+
+            onEdt(() -> {
+                DataStore.getInstance().stopFileWatcher();
+                DataStore.getInstance().login(SyntheticDataset.username(0), SyntheticDataset.PASSWORD);
+
+                timeline = buildTimeline();
+                profile = (ProfilePanel) build(new ProfilePanel(null));
+                friends = (FriendsPanel) build(new FriendsPanel());
+
+                timelineScroll = find(timeline, JScrollPane.class);
+                MomentFeedPanel feed = find(timeline, MomentFeedPanel.class);
+                feed.loadUpTo(Integer.MAX_VALUE);
+                layoutTree(timeline);
+                return null;
+            });
+            canvas = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+
+            int feedHeight = find(timeline, MomentFeedPanel.class).getHeight();
+            System.out.printf("%n[SwingRender] %d moments: timeline has %d cards, %,d px tall%n",
+                momentCount, find(timeline, MomentFeedPanel.class).getComponentCount(), feedHeight);
+        }
+
+        /**
+         * Menghapus folder home sementara.
+         * 
+         * @throws IOException jika folder gagal dihapus
+         */
+        @TearDown(Level.Trial)
+        public void cleanup() throws IOException {
+            timeline.stopAutoRefresh();
+            TempDirs.deleteRecursively(home);
+        }
+    }
+
+    /**
+     * Posisi scroll viewport timeline.
+     */
+    @State(Scope.Benchmark)
+    public static class Scroll {
+
+        /** Posisi scroll vertikal dalam pixel (dibatasi ke posisi maksimal) */
+        @Param({"0", "5000", "20000"})
+        public int offset;
+
+        /**
+         * Menggeser viewport timeline ke posisi scroll.
+         * 
+         * @param ui state aplikasi
+         * @throws Exception jika setup gagal
+         */
+        @Setup(Level.Iteration)
+        public void scroll(Ui ui) throws Exception {
+            onEdt(() -> {
+                JViewport viewport = ui.timelineScroll.getViewport();
+                int max = Math.max(0, viewport.getView().getHeight() - viewport.getHeight());
+                viewport.setViewPosition(new Point(0, Math.min(offset, max)));
+                layoutTree(ui.timeline);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Card dan ikon untuk mengukur paint satu komponen.
+     */
+    @State(Scope.Benchmark)
+    public static class Parts {
+
+        /** Card dengan render cache nonaktif */
+        MomentCard card;
+
+        /** Card dengan render cache aktif */
+        MomentCard cachedCard;
+
+        /** Target paint seukuran card */
+        BufferedImage cardCanvas;
+
+        /** Target paint seukuran ikon */
+        BufferedImage iconCanvas;
+
+        /** Tipe moment yang dirotasi untuk ikon */
+        MomentType[] types = MomentType.values();
+
+        /** Posisi rotasi tipe */
+        int cursor;
+
+        /**
+         * Membuat card contoh dan target paint.
+         * Bergantung pada Ui agar DataStore sudah diarahkan ke home sementara.
+         * 
+         * @param ui state aplikasi
+         * @throws Exception jika setup gagal
+         */
+        @Setup(Level.Trial)
+        public void setup(Ui ui) throws Exception {
+            Moment moment = new Moment("render-sample", SyntheticDataset.userId(1), MomentType.MUSIC,
+                "Smooth Criminal", null, LocalDateTime.now().minusMinutes(5));
+            onEdt(() -> {
+                card = layoutCard(new MomentCard(moment), false);
+                cachedCard = layoutCard(new MomentCard(moment), true);
+                return null;
+            });
+            cardCanvas = new BufferedImage(WIDTH, card.getHeight(), BufferedImage.TYPE_INT_RGB);
+            iconCanvas = new BufferedImage(ICON_SIZE * 2, ICON_SIZE * 2, BufferedImage.TYPE_INT_ARGB);
+        }
+
+        /**
+         * Mengambil tipe moment berikutnya.
+         * 
+         * @return tipe moment
+         */
+        MomentType nextType() {
+            cursor = (cursor + 1) % types.length;
+            return types[cursor];
+        }
+    }
+
+    // ==================== Konstruksi dan refresh ====================
+
+    /**
+     * Membangun TimelinePanel baru sampai halaman pertama tampil dan ter-layout.
+     * 
+     * @param ui state aplikasi
+     * @return panel baru
+     * @throws Exception jika EDT gagal
+     */
+    @Benchmark
+    public TimelinePanel buildTimelinePanel(Ui ui) throws Exception {
+        return onEdt(() -> {
+            TimelinePanel panel = buildTimeline();
+            panel.stopAutoRefresh();
+            return panel;
+        });
+    }
+
+    /**
+     * Membangun ProfilePanel baru dengan moment pengguna.
+     * 
+     * @param ui state aplikasi
+     * @return panel baru
+     * @throws Exception jika EDT gagal
+     */
+    @Benchmark
+    public BasePanel buildProfilePanel(Ui ui) throws Exception {
+        return onEdt(() -> build(new ProfilePanel(null)));
+    }
+
+    /**
+     * Membangun FriendsPanel baru dengan daftar teman.
+     * 
+     * @param ui state aplikasi
+     * @return panel baru
+     * @throws Exception jika EDT gagal
+     */
+    @Benchmark
+    public BasePanel buildFriendsPanel(Ui ui) throws Exception {
+        return onEdt(() -> build(new FriendsPanel()));
+    }
+
+    /**
+     * Refresh paksa TimelinePanel yang sudah berisi card (rekonsiliasi tanpa perubahan data).
+     * 
+     * @param ui state aplikasi
+     * @throws Exception jika EDT gagal
+     */
+    @Benchmark
+    public void refreshTimeline(Ui ui) throws Exception {
+        onEdt(() -> {
+            ui.timeline.markDirty();
+            ui.timeline.refresh();
+            return null;
+        });
+    }
+
+    /**
+     * Refresh paksa ProfilePanel (membangun ulang isi profil).
+     * 
+     * @param ui state aplikasi
+     * @throws Exception jika EDT gagal
+     */
+    @Benchmark
+    public void refreshProfile(Ui ui) throws Exception {
+        onEdt(() -> {
+            ui.profile.markDirty();
+            ui.profile.refresh();
+            return null;
+        });
+    }
+
+    /**
+     * Refresh paksa FriendsPanel (membangun ulang daftar teman).
+     * 
+     * @param ui state aplikasi
+     * @throws Exception jika EDT gagal
+     */
+    @Benchmark
+    public void refreshFriends(Ui ui) throws Exception {
+        onEdt(() -> {
+            ui.friends.markDirty();
+            ui.friends.refresh();
+            return null;
+        });
+    }
+
+    /**
+     * Layout ulang seluruh TimelinePanel beserta semua card.
+     * 
+     * @param ui state aplikasi
+     * @throws Exception jika EDT gagal
+     */
+    @Benchmark
+    public void layoutTimeline(Ui ui) throws Exception {
+        onEdt(() -> {
+            ui.timeline.invalidate();
+            layoutTree(ui.timeline);
+            return null;
+        });
+    }
+
+    // ==================== Paint ====================
+
+    /**
+     * Paint penuh TimelinePanel (header dan viewport) di posisi scroll tertentu.
+     * 
+     * @param ui state aplikasi
+     * @param scroll posisi scroll
+     * @return canvas hasil paint
+     */
+    @Benchmark
+    public BufferedImage paintTimelineFrame(Ui ui, Scroll scroll) {
+        Graphics2D g2 = ui.canvas.createGraphics();
+        ui.timeline.paint(g2);
+        g2.dispose();
+        return ui.canvas;
+    }
+
+    /**
+     * Paint penuh ProfilePanel.
+     * 
+     * @param ui state aplikasi
+     * @return canvas hasil paint
+     */
+    @Benchmark
+    public BufferedImage paintProfileFrame(Ui ui) {
+        Graphics2D g2 = ui.canvas.createGraphics();
+        ui.profile.paint(g2);
+        g2.dispose();
+        return ui.canvas;
+    }
+
+    /**
+     * Paint penuh FriendsPanel.
+     * 
+     * @param ui state aplikasi
+     * @return canvas hasil paint
+     */
+    @Benchmark
+    public BufferedImage paintFriendsFrame(Ui ui) {
+        Graphics2D g2 = ui.canvas.createGraphics();
+        ui.friends.paint(g2);
+        g2.dispose();
+        return ui.canvas;
+    }
+
+    /**
+     * Paint satu MomentCard tanpa render cache.
+     * 
+     * @param parts state card
+     * @return canvas hasil paint
+     */
+    @Benchmark
+    public BufferedImage paintMomentCard(Parts parts) {
+        Graphics2D g2 = parts.cardCanvas.createGraphics();
+        parts.card.paint(g2);
+        g2.dispose();
+        return parts.cardCanvas;
+    }
+
+    /**
+     * Paint satu MomentCard dengan render cache (blit gambar yang sudah di-render).
+     * 
+     * @param parts state card
+     * @return canvas hasil paint
+     */
+    @Benchmark
+    public BufferedImage paintMomentCardCached(Parts parts) {
+        Graphics2D g2 = parts.cardCanvas.createGraphics();
+        parts.cachedCard.paint(g2);
+        g2.dispose();
+        return parts.cardCanvas;
+    }
+
+    /**
+     * Paint ikon moment dari cache raster PathIcons.
+     * 
+     * @param parts state ikon
+     * @return canvas hasil paint
+     */
+    @Benchmark
+    public BufferedImage paintIconCached(Parts parts) {
+        Graphics2D g2 = parts.iconCanvas.createGraphics();
+        PathIcons.getMomentIcon(parts.nextType(), ICON_SIZE, PathColors.BACKGROUND_WHITE)
+            .paintIcon(null, g2, 0, 0);
+        g2.dispose();
+        return parts.iconCanvas;
+    }
+
+    /**
+     * Paint ikon moment vektor (tanpa cache raster).
+     * 
+     * @param parts state ikon
+     * @return canvas hasil paint
+     */
+    @Benchmark
+    public BufferedImage paintIconVector(Parts parts) {
+        Graphics2D g2 = parts.iconCanvas.createGraphics();
+        PathIcons.createMomentIcon(parts.nextType(), ICON_SIZE, PathColors.BACKGROUND_WHITE)
+            .paintIcon(null, g2, 0, 0);
+        g2.dispose();
+        return parts.iconCanvas;
+    }
+
+    // ==================== Helper ====================
+
+    /**
+     * Membangun TimelinePanel, me-refresh, dan me-layout-nya.
+     * 
+     * @return panel timeline
+     */
+    private static TimelinePanel buildTimeline() {
+        return (TimelinePanel) build(new TimelinePanel());
+    }
+
+    /**
+     * Me-refresh panel lalu me-layout-nya seukuran aplikasi.
+     * 
+     * @param panel panel yang dibangun
+     * @return panel yang sama
+     */
+    private static BasePanel build(BasePanel panel) {
+        panel.refresh();
+        panel.setSize(WIDTH, HEIGHT);
+        layoutTree(panel);
+        return panel;
+    }
+
+    /**
+     * Me-layout card seukuran lebar aplikasi.
+     * 
+     * @param card card yang di-layout
+     * @param renderCache true untuk mengaktifkan render cache
+     * @return card yang sama
+     */
+    private static MomentCard layoutCard(MomentCard card, boolean renderCache) {
+        card.setRenderCacheEnabled(renderCache);
+        card.setSize(WIDTH, card.getPreferredSize().height);
+        layoutTree(card);
+        return card;
+    }
+
+    /**
+     * Melakukan layout rekursif tanpa membutuhkan window yang tampil.
+     * 
+     * @param container container yang di-layout
+     */
+    private static void layoutTree(Container container) {
+        container.doLayout();
+        for (Component child : container.getComponents()) {
+            if (child instanceof Container) {
+                layoutTree((Container) child);
+            }
+        }
+    }
+
+    /**
+     * Mencari komponen pertama dengan tipe tertentu di dalam container.
+     * 
+     * @param container container yang ditelusuri
+     * @param type tipe komponen
+     * @param <T> tipe komponen
+     * @return komponen pertama yang cocok, atau null
+     */
+    private static <T extends Component> T find(Container container, Class<T> type) {
+        for (Component child : container.getComponents()) {
+            if (type.isInstance(child)) {
+                return type.cast(child);
+            }
+            if (child instanceof Container) {
+                T found = find((Container) child, type);
+                if (found != null) return found;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Menjalankan task di EDT dan menunggu hasilnya.
+     * 
+     * @param task task yang dijalankan
+     * @param <T> tipe hasil
+     * @return hasil task
+     * @throws Exception jika task gagal
+     */
+    private static <T> T onEdt(Callable<T> task) throws Exception {
+        Object[] result = new Object[1];
+        Exception[] failure = new Exception[1];
+        try {
+            SwingUtilities.invokeAndWait(() -> {
+                try {
+                    result[0] = task.call();
+                } catch (Exception e) {
+                    failure[0] = e;
+                }
+            });
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        if (failure[0] != null) throw failure[0];
+        @SuppressWarnings("unchecked")
+        T value = (T) result[0];
+        return value;
+    }
+}
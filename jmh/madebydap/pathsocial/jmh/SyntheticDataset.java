@@ -0,0 +1,239 @@
+package madebydap.pathsocial.jmh;
+
+import madebydap.pathsocial.data.PersistenceManager;
+import madebydap.pathsocial.model.Moment;
+import madebydap.pathsocial.model.MomentType;
+import madebydap.pathsocial.model.User;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generator dataset sintetis yang deterministik untuk benchmark.
+ * Seed, jumlah pengguna, derajat pertemanan, dan jumlah moment yang sama selalu
+ * menghasilkan data yang identik (ID, nama, pertemanan, isi, dan timestamp),
+ * sehingga hasil benchmark bisa dibandingkan antar perubahan kode.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class SyntheticDataset {
+
+    /**
+     * Profil string untuk isi moment.
+     */
+    public enum ContentProfile {
+        /** Kata ASCII biasa tanpa karakter yang perlu di-escape */
+        ASCII,
+        /** Banyak tanda kutip, backslash, tab, dan baris baru yang harus di-escape di JSON */
+        ESCAPING,
+        /** Teks non-ASCII: aksen, aksara non-Latin, dan emoji (surrogate pair) */
+        UNICODE
+    }
+
+    /** Seed default */
+    public static final long DEFAULT_SEED = 42L;
+
+    /** Password semua pengguna sintetis */
+    public static final String PASSWORD = "password";
+
+    /** Timestamp moment paling baru; moment lain mundur dari waktu ini */
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    /** Nama depan untuk display name */
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Bob", "Charlie", "Dewi", "Eka", "Farah", "Gilang", "Hana", "Indra", "Joko",
+        "Kartika", "Lukas", "Maya", "Nanda", "Oscar", "Putri", "Rizky", "Sari", "Tono", "Wulan"
+    };
+
+    /** Nama belakang untuk display name */
+    private static final String[] LAST_NAMES = {
+        "Johnson", "Smith", "Brown", "Santoso", "Wijaya", "Pratama", "Hidayat", "Kusuma",
+        "Nugroho", "Saputra", "Lestari", "Halim", "Tan", "Gunawan", "Siregar", "Putra"
+    };
+
+    /** Kata untuk isi moment */
+    private static final String[] WORDS = {
+        "Jakarta", "coffee", "morning", "run", "Bandung", "sunset", "music", "lunch", "beach",
+        "meeting", "weekend", "rain", "train", "book", "movie", "friends", "Bali", "dinner"
+    };
+
+    /** Potongan teks yang penuh karakter escape */
+    private static final String[] ESCAPING_WORDS = {
+        "\"quoted\"", "C:\\Users\\path", "line\nbreak", "tab\there", "\\\"both\\\"",
+        "say \"hi\"", "a\r\nb", "{\"json\": true}"
+    };
+
+    /** Potongan teks non-ASCII */
+    private static final String[] UNICODE_WORDS = {
+        "kopi \u2615", "caf\u00e9", "\u6771\u4eac", "\u0645\u0631\u062d\u0628\u0627", "\ud83c\udf05 senja",
+        "\u00fcber", "\u041c\u043e\u0441\u043a\u0432\u0430", "\ud83c\udfb5 musik", "na\u00efve", "\uc11c\uc6b8"
+    };
+
+    /** Pengguna dengan ID sebagai key, dalam urutan pembuatan */
+    private final Map<String, User> users;
+
+    /** Semua moment, diurutkan dari terbaru */
+    private final List<Moment> moments;
+
+    /**
+     * Konstruktor dataset; gunakan generate() atau SocialGraphGenerator.
+     * 
+     * @param users pengguna hasil generate
+     * @param moments moment hasil generate, diurutkan dari terbaru
+     */
+    SyntheticDataset(Map<String, User> users, List<Moment> moments) {
+        this.users = users;
+        this.moments = moments;
+    }
+
+    /**
+     * Membuat dataset dengan seed default.
+     * 
+     * @param userCount jumlah pengguna
+     * @param friendDegree rata-rata jumlah teman per pengguna (maksimal User.MAX_FRIENDS)
+     * @param momentCount jumlah moment
+     * @return dataset sintetis
+     */
+    public static SyntheticDataset generate(int userCount, int friendDegree, int momentCount) {
+        return generate(DEFAULT_SEED, userCount, friendDegree, momentCount, ContentProfile.ASCII);
+    }
+
+    /**
+     * Membuat dataset sintetis yang deterministik.
+     * 
+     * @param seed seed generator acak
+     * @param userCount jumlah pengguna
+     * @param friendDegree rata-rata jumlah teman per pengguna (maksimal User.MAX_FRIENDS)
+     * @param momentCount jumlah moment
+     * @param profile profil string untuk isi moment
+     * @return dataset sintetis
+     */
+    public static SyntheticDataset generate(long seed, int userCount, int friendDegree, int momentCount,
+                                            ContentProfile profile) {
+        Random random = new Random(seed);
+
+        Map<String, User> users = new LinkedHashMap<>();
+        List<User> userList = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            String displayName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            User user = new User(userId(i), username(i), PASSWORD, displayName);
+            users.put(user.getId(), user);
+            userList.add(user);
+        }
+
+        connectFriends(userList, Math.min(friendDegree, User.MAX_FRIENDS), random);
+
+        MomentType[] types = MomentType.values();
+        List<Moment> moments = new ArrayList<>(momentCount);
+        for (int i = 0; i < momentCount; i++) {
+            User author = userList.get(random.nextInt(userCount));
+            MomentType type = types[random.nextInt(types.length)];
+            String content = content(profile, random);
+            // Spread moments over time, newest first, with a little jitter
+            LocalDateTime timestamp = BASE_TIME.minusSeconds(i * 60L + random.nextInt(60));
+            moments.add(new Moment(String.format("m-%08d", i), author.getId(), type, content, null, timestamp));
+        }
+
+        return new SyntheticDataset(users, moments);
+    }
+
+    /**
+     * Membuat isi moment sesuai profil string.
+     * 
+     * @param profile profil string
+     * @param random generator acak
+     * @return isi moment
+     */
+    private static String content(ContentProfile profile, Random random) {
+        String first = WORDS[random.nextInt(WORDS.length)];
+        switch (profile) {
+            case ESCAPING:
+                return first + " " + ESCAPING_WORDS[random.nextInt(ESCAPING_WORDS.length)]
+                    + " " + ESCAPING_WORDS[random.nextInt(ESCAPING_WORDS.length)];
+            case UNICODE:
+                return first + " " + UNICODE_WORDS[random.nextInt(UNICODE_WORDS.length)]
+                    + " " + UNICODE_WORDS[random.nextInt(UNICODE_WORDS.length)];
+            default:
+                return first + " " + WORDS[random.nextInt(WORDS.length)];
+        }
+    }
+
+    /**
+     * Membuat pertemanan mutual acak sampai setiap pengguna mendekati derajat target.
+     * 
+     * @param users daftar pengguna
+     * @param degree derajat target per pengguna
+     * @param random generator acak
+     */
+    private static void connectFriends(List<User> users, int degree, Random random) {
+        int n = users.size();
+        if (n < 2 || degree <= 0) return;
+
+        // Each link adds one friend to both sides, so n * degree / 2 links give the target degree
+        long links = (long) n * degree / 2;
+        long attempts = links * 4;
+        for (long made = 0; made < links && attempts > 0; attempts--) {
+            User a = users.get(random.nextInt(n));
+            User b = users.get(random.nextInt(n));
+            if (a == b || a.isFriend(b.getId())) continue;
+            if (a.getFriendCount() >= degree || b.getFriendCount() >= degree) continue;
+            a.addFriend(b.getId());
+            b.addFriend(a.getId());
+            made++;
+        }
+    }
+
+    /**
+     * Membuat ID pengguna sintetis.
+     * 
+     * @param index indeks pengguna
+     * @return ID pengguna
+     */
+    public static String userId(int index) {
+        return String.format("u-%06d", index);
+    }
+
+    /**
+     * Membuat username pengguna sintetis.
+     * 
+     * @param index indeks pengguna
+     * @return username pengguna
+     */
+    public static String username(int index) {
+        return String.format("user%06d", index);
+    }
+
+    /**
+     * Mengambil pengguna dataset.
+     * 
+     * @return map pengguna dengan ID sebagai key
+     */
+    public Map<String, User> getUsers() {
+        return users;
+    }
+
+    /**
+     * Mengambil moment dataset.
+     * 
+     * @return daftar moment, diurutkan dari terbaru
+     */
+    public List<Moment> getMoments() {
+        return moments;
+    }
+
+    /**
+     * Menulis dataset ke folder data dalam format data.json aplikasi.
+     * 
+     * @param baseDir folder data tujuan
+     */
+    public void writeTo(Path baseDir) {
+        new PersistenceManager(baseDir).save(users, moments);
+    }
+}
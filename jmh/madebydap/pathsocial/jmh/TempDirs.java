@@ -0,0 +1,46 @@
+package madebydap.pathsocial.jmh;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Utilitas folder sementara untuk benchmark, agar data di ~/.pathsocial tidak tersentuh.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+final class TempDirs {
+
+    /**
+     * Konstruktor private untuk mencegah instansiasi.
+     */
+    private TempDirs() {}
+
+    /**
+     * Membuat folder sementara baru.
+     * 
+     * @return path folder
+     * @throws IOException jika folder gagal dibuat
+     */
+    static Path create() throws IOException {
+        return Files.createTempDirectory("pathsocial-jmh");
+    }
+
+    /**
+     * Menghapus folder beserta isinya.
+     * 
+     * @param dir folder yang dihapus
+     * @throws IOException jika penghapusan gagal
+     */
+    static void deleteRecursively(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir)) return;
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package madebydap.pathsocial.jmh;
+
+import madebydap.pathsocial.data.DataStore;
+import madebydap.pathsocial.data.PersistenceManager;
+import madebydap.pathsocial.model.Moment;
+import madebydap.pathsocial.model.MomentType;
+import madebydap.pathsocial.model.User;
+import madebydap.pathsocial.monitor.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Driver load test yang memutar lalu lintas baca/tulis campuran terhadap DataStore
+ * dari beberapa thread sekaligus. Dataset dibuat oleh SocialGraphGenerator ke folder
+ * sementara, lalu setiap thread memilih operasi secara acak sesuai bobot campuran.
+ * Pengguna dipilih sebanding dengan derajat pertemanannya, sehingga pengguna
+ * populer lebih sering membaca dan menulis seperti pada lalu lintas nyata.
+ * Di akhir run, throughput dan persentil latensi per operasi dicetak ke stdout.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class WorkloadDriver {
+
+    /**
+     * Operasi dalam campuran workload; bobot dibandingkan di antara operasi baca atau di antara operasi tulis.
+     */
+    private enum Op {
+        TIMELINE(55, false),
+        USER_MOMENTS(15, false),
+        SEARCH(12, false),
+        LOGIN(8, false),
+        ADD_MOMENT(7, true),
+        ADD_FRIEND(2, true),
+        REGISTER(1, true);
+
+        /** Bobot operasi */
+        final int weight;
+
+        /** true jika operasi menulis data */
+        final boolean write;
+
+        Op(int weight, boolean write) {
+            this.weight = weight;
+            this.write = write;
+        }
+    }
+
+    /** Jumlah thread pekerja */
+    private final int threads;
+
+    /** Durasi pengukuran (detik) */
+    private final int seconds;
+
+    /** Durasi warmup sebelum pengukuran (detik) */
+    private final int warmupSeconds;
+
+    /** Persentase operasi tulis dari seluruh operasi */
+    private final int writePercent;
+
+    /** DataStore yang diuji */
+    private final DataStore store;
+
+    /** ID pengguna, diulang sebanding derajat pertemanan untuk pemilihan berbobot */
+    private final String[] weightedUserIds;
+
+    /** Username sejajar dengan weightedUserIds */
+    private final String[] weightedUsernames;
+
+    /** Histogram latensi per operasi */
+    private final LatencyHistogram[] histograms = new LatencyHistogram[Op.values().length];
+
+    /** Jumlah operasi yang gagal (mengembalikan null/false atau melempar exception) */
+    private final AtomicLong failures = new AtomicLong();
+
+    /** Penghitung untuk username unik operasi REGISTER */
+    private final AtomicLong registered = new AtomicLong();
+
+    /** true selama fase pengukuran */
+    private final AtomicBoolean measuring = new AtomicBoolean();
+
+    /** true sampai run selesai */
+    private final AtomicBoolean running = new AtomicBoolean(true);
+
+    /**
+     * Konstruktor WorkloadDriver.
+     * 
+     * @param store DataStore yang diuji
+     * @param users pengguna dataset
+     * @param threads jumlah thread pekerja
+     * @param seconds durasi pengukuran (detik)
+     * @param warmupSeconds durasi warmup (detik)
+     * @param writePercent persentase operasi tulis
+     */
+    public WorkloadDriver(DataStore store, Map<String, User> users, int threads, int seconds,
+                          int warmupSeconds, int writePercent) {
+        this.store = store;
+        this.threads = threads;
+        this.seconds = seconds;
+        this.warmupSeconds = warmupSeconds;
+        this.writePercent = Math.max(0, Math.min(100, writePercent));
+
+        List<String> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (User user : users.values()) {
+            for (int i = 0; i <= user.getFriendCount(); i++) {
+                ids.add(user.getId());
+                names.add(user.getUsername());
+            }
+        }
+        this.weightedUserIds = ids.toArray(new String[0]);
+        this.weightedUsernames = names.toArray(new String[0]);
+
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Menjalankan warmup dan pengukuran, lalu mencetak laporan.
+     * 
+     * @throws InterruptedException jika thread utama diinterupsi
+     */
+    public void run() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    while (running.get()) {
+                        step();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "Workload-" + t);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        System.out.printf("Warmup %d s, measuring %d s with %d threads (%d%% writes)...%n",
+            warmupSeconds, seconds, threads, writePercent);
+        Thread.sleep(warmupSeconds * 1000L);
+        measuring.set(true);
+        long start = System.nanoTime();
+        Thread.sleep(seconds * 1000L);
+        measuring.set(false);
+        long elapsed = System.nanoTime() - start;
+        running.set(false);
+        done.await();
+
+        printReport(elapsed);
+    }
+
+    /**
+     * Menjalankan satu operasi acak dan mencatat latensinya selama fase pengukuran.
+     */
+    private void step() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Op op = pickOp(random);
+        int user = random.nextInt(weightedUserIds.length);
+
+        long begin = System.nanoTime();
+        boolean ok;
+        try {
+            ok = execute(op, user, random);
+        } catch (RuntimeException e) {
+            ok = false;
+        }
+        long nanos = System.nanoTime() - begin;
+
+        if (measuring.get()) {
+            histograms[op.ordinal()].record(nanos);
+            if (!ok) failures.incrementAndGet();
+        }
+    }
+
+    /**
+     * Menjalankan operasi terhadap DataStore.
+     * 
+     * @param op operasi
+     * @param user indeks pengguna pada weightedUserIds
+     * @param random generator acak thread ini
+     * @return true jika operasi berhasil
+     */
+    private boolean execute(Op op, int user, ThreadLocalRandom random) {
+        String userId = weightedUserIds[user];
+        switch (op) {
+            case TIMELINE:
+                return store.getTimelineMoments(userId) != null;
+            case USER_MOMENTS:
+                return store.getUserMoments(userId) != null;
+            case SEARCH:
+                String username = weightedUsernames[user];
+                return store.searchUsers(username.substring(0, 4 + random.nextInt(5))) != null;
+            case LOGIN:
+                return store.login(weightedUsernames[user], SyntheticDataset.PASSWORD) != null;
+            case ADD_MOMENT:
+                store.addMoment(new Moment(userId, MomentType.THOUGHT, "Load test moment"), false);
+                return true;
+            case ADD_FRIEND:
+                String other = weightedUserIds[random.nextInt(weightedUserIds.length)];
+                // Full or already-friends pairs are expected to be rejected; not a failure
+                store.addFriend(userId, other);
+                return true;
+            case REGISTER:
+                return store.register("load" + registered.incrementAndGet(), SyntheticDataset.PASSWORD,
+                    "Load User") != null;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Memilih operasi berdasarkan bobot, dengan proporsi tulis sesuai writePercent.
+     * 
+     * @param random generator acak thread ini
+     * @return operasi terpilih
+     */
+    private Op pickOp(ThreadLocalRandom random) {
+        boolean write = random.nextInt(100) < writePercent;
+        int total = 0;
+        for (Op op : Op.values()) {
+            if (op.write == write) total += op.weight;
+        }
+        int r = random.nextInt(total);
+        for (Op op : Op.values()) {
+            if (op.write != write) continue;
+            r -= op.weight;
+            if (r < 0) return op;
+        }
+        return Op.TIMELINE;
+    }
+
+    /**
+     * Mencetak throughput total dan persentil latensi per operasi.
+     * 
+     * @param elapsedNanos durasi pengukuran
+     */
+    private void printReport(long elapsedNanos) {
+        double elapsedSec = elapsedNanos / 1e9;
+        long total = 0;
+        for (LatencyHistogram histogram : histograms) {
+            total += histogram.getCount();
+        }
+
+        System.out.printf("%nTotal: %,d ops in %.1f s = %,.0f ops/s, %,d failed%n",
+            total, elapsedSec, total / elapsedSec, failures.get());
+        System.out.printf("%-14s %10s %10s %10s %10s %10s %10s%n",
+            "operation", "ops/s", "mean ms", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (Op op : Op.values()) {
+            LatencyHistogram h = histograms[op.ordinal()];
+            if (h.getCount() == 0) continue;
+            System.out.printf("%-14s %,10.0f %10.3f %10.3f %10.3f %10.3f %10.3f%n",
+                op.name().toLowerCase(), h.getCount() / elapsedSec,
+                h.getMeanNanos() / 1e6, h.getPercentileNanos(50) / 1e6, h.getPercentileNanos(90) / 1e6,
+                h.getPercentileNanos(99) / 1e6, h.getMaxNanos() / 1e6);
+        }
+    }
+
+    /**
+     * Membuat dataset ke folder sementara dan menjalankan workload.
+     * Argumen: [threads] [seconds] [users] [moments] [writePercent] [warmupSeconds].
+     * 
+     * @param args argumen command line
+     * @throws IOException jika dataset gagal dibuat
+     * @throws InterruptedException jika run diinterupsi
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int users = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+        int moments = args.length > 3 ? Integer.parseInt(args[3]) : 20_000;
+        int writePercent = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+        int warmup = args.length > 5 ? Integer.parseInt(args[5]) : 5;
+
+        Path dir = TempDirs.create();
+        try {
+            SyntheticDataset data = new SocialGraphGenerator(SyntheticDataset.DEFAULT_SEED, users, moments)
+                .generate(dir);
+            DataStore store = new DataStore(new PersistenceManager(dir));
+            new WorkloadDriver(store, data.getUsers(), threads, seconds, warmup, writePercent).run();
+        } finally {
+            TempDirs.deleteRecursively(dir);
+        }
+    }
+}
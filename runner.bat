@@ -9,7 +9,7 @@ if exist bin rmdir /s /q bin
 mkdir bin
 
 echo Compiling with FlatLaf...
-javac -d bin -cp "lib/*" -sourcepath src src/madebydap/pathsocial/*.java src/madebydap/pathsocial/model/*.java src/madebydap/pathsocial/data/*.java src/madebydap/pathsocial/ui/*.java src/madebydap/pathsocial/ui/components/*.java src/madebydap/pathsocial/ui/style/*.java
+javac -d bin -cp "lib/*" -sourcepath src src/madebydap/pathsocial/*.java src/madebydap/pathsocial/model/*.java src/madebydap/pathsocial/data/*.java src/madebydap/pathsocial/monitor/*.java src/madebydap/pathsocial/ui/*.java src/madebydap/pathsocial/ui/components/*.java src/madebydap/pathsocial/ui/style/*.java
 
 if %errorlevel% neq 0 (
     echo.
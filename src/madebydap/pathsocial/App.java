@@ -1,6 +1,8 @@
 package madebydap.pathsocial;
 
 import com.formdev.flatlaf.FlatLightLaf;
+import madebydap.pathsocial.monitor.EdtWatchdog;
+import madebydap.pathsocial.monitor.Metrics;
 import madebydap.pathsocial.ui.MainFrame;
 
 import javax.swing.*;
@@ -16,11 +18,21 @@ public class App {
     
     /**
      * Method main untuk memulai aplikasi.
-     * Mengatur Look and Feel menggunakan FlatLaf dan menampilkan MainFrame.
+     * Memulai pipeline startup di background, memasang EDT watchdog jika diaktifkan,
+     * mengatur Look and Feel menggunakan FlatLaf, lalu menampilkan MainFrame tanpa
+     * menunggu data selesai dimuat.
      * 
      * @param args argumen command line (tidak digunakan)
      */
     public static void main(String[] args) {
+        StartupPipeline.getInstance().start();
+        if (EdtWatchdog.isEnabled()) {
+            EdtWatchdog.getInstance().install();
+        }
+        if (Metrics.ENABLED) {
+            Metrics.getInstance().install();
+        }
+
         try {
             FlatLightLaf.setup();
             UIManager.put("Button.arc", 8);
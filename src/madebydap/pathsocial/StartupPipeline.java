@@ -0,0 +1,220 @@
+package madebydap.pathsocial;
+
+import madebydap.pathsocial.data.DataStore;
+import madebydap.pathsocial.monitor.Metrics;
+import madebydap.pathsocial.ui.components.ImageCache;
+import madebydap.pathsocial.ui.style.PathFonts;
+import madebydap.pathsocial.ui.style.PathIcons;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pipeline startup aplikasi yang menjalankan tahap-tahap inisialisasi berat
+ * secara paralel di thread background, sehingga UI login bisa tampil lebih dulu.
+ * Setiap tahap dapat dipantau melalui CompletableFuture. Setelah semua tahap selesai,
+ * ringkasan waktu setiap tahap dan total ditulis satu baris ke System.err; saat metrik
+ * aktif, waktunya juga direkam ke Metrics ("startup.<tahap>" dan "startup.total").
+ *
+ * @author madebydap
+ * @version 1.0
+ */
+public class StartupPipeline {
+
+    /**
+     * Tahap-tahap startup.
+     */
+    public enum Stage {
+        /** Memuat data pengguna dan moment dari file, lalu memasang resolver thumbnail ImageCache */
+        DATA,
+        /** Mencari font sistem yang tersedia */
+        FONTS,
+        /** Merasterisasi icon moment */
+        ICONS,
+        /** Men-decode gambar moment terbaru (menunggu DATA) */
+        IMAGES
+    }
+
+    /** Jumlah gambar moment terbaru yang di-decode saat warm-up */
+    private static final int WARM_UP_IMAGE_COUNT = 20;
+
+    /** Instance singleton */
+    private static StartupPipeline instance;
+
+    /** Future untuk setiap tahap */
+    private final Map<Stage, CompletableFuture<Void>> stages = new EnumMap<>(Stage.class);
+
+    /** Executor untuk menjalankan tahap-tahap startup */
+    private ExecutorService executor;
+
+    /** Waktu mulai pipeline dari System.nanoTime() */
+    private long startNanos;
+
+    /** Durasi setiap tahap dalam milidetik, diindeks dengan ordinal (-1 jika gagal) */
+    private final long[] stageMillis = new long[Stage.values().length];
+
+    /**
+     * Konstruktor private untuk singleton pattern.
+     */
+    private StartupPipeline() {
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * Mengambil instance singleton StartupPipeline.
+     *
+     * @return instance StartupPipeline
+     */
+    public static synchronized StartupPipeline getInstance() {
+        if (instance == null) {
+            instance = new StartupPipeline();
+        }
+        return instance;
+    }
+
+    /**
+     * Memulai semua tahap startup di background.
+     * Pemanggilan berikutnya tidak melakukan apa pun.
+     */
+    public synchronized void start() {
+        if (executor != null) return;
+
+        startNanos = System.nanoTime();
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(3, r -> {
+            Thread t = new Thread(r, "Startup-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        runStage(Stage.FONTS, () -> PathFonts.getFontFamily());
+        runStage(Stage.DATA, StartupPipeline::loadData);
+        runStage(Stage.ICONS, StartupPipeline::warmUpIcons);
+        stages.get(Stage.DATA).whenComplete((ignored, error) ->
+            runStage(Stage.IMAGES, StartupPipeline::warmUpImages));
+
+        CompletableFuture<?>[] all = stages.values().toArray(new CompletableFuture<?>[0]);
+        CompletableFuture.allOf(all)
+            .whenComplete((ignored, error) -> {
+                Metrics.stop("startup.total", startNanos);
+                logSummary();
+                executor.shutdown();
+            });
+    }
+
+    /**
+     * Mengambil future untuk tahap tertentu.
+     * Future selesai (termasuk jika gagal) saat tahap tersebut selesai dijalankan.
+     *
+     * @param stage tahap startup
+     * @return future tahap tersebut
+     */
+    public CompletableFuture<Void> getStage(Stage stage) {
+        return stages.get(stage);
+    }
+
+    /**
+     * Memeriksa apakah tahap tertentu sudah selesai.
+     *
+     * @param stage tahap startup
+     * @return true jika tahap sudah selesai (berhasil atau gagal)
+     */
+    public boolean isDone(Stage stage) {
+        return stages.get(stage).isDone();
+    }
+
+    /**
+     * Menjalankan aksi di EDT setelah tahap tertentu selesai, berhasil maupun gagal.
+     * Jika tahap sudah selesai, aksi tetap dijadwalkan lewat invokeLater.
+     *
+     * @param stage tahap startup
+     * @param action aksi yang dijalankan di EDT
+     */
+    public void onStageDone(Stage stage, Runnable action) {
+        stages.get(stage).whenComplete((ignored, error) -> SwingUtilities.invokeLater(action));
+    }
+
+    /**
+     * Menjalankan satu tahap di executor dan mencatat waktunya.
+     *
+     * @param stage tahap yang dijalankan
+     * @param task pekerjaan tahap tersebut
+     */
+    private void runStage(Stage stage, Runnable task) {
+        CompletableFuture<Void> future = stages.get(stage);
+        executor.execute(() -> {
+            long stageStart = System.nanoTime();
+            try {
+                task.run();
+                stageMillis[stage.ordinal()] = (System.nanoTime() - stageStart) / 1_000_000;
+                Metrics.stop("startup." + stage.name().toLowerCase(), stageStart);
+                future.complete(null);
+            } catch (Throwable e) {
+                stageMillis[stage.ordinal()] = -1;
+                System.err.println("[Startup] " + stage + " failed: " + e.getMessage());
+                future.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Menulis ringkasan waktu startup dalam satu baris.
+     * Dipanggil setelah semua tahap selesai, sehingga durasi tahap sudah terlihat.
+     */
+    private void logSummary() {
+        StringBuilder summary = new StringBuilder("[Startup] ");
+        for (Stage stage : Stage.values()) {
+            long millis = stageMillis[stage.ordinal()];
+            summary.append(stage).append(' ').append(millis < 0 ? "failed" : millis + " ms").append(", ");
+        }
+        summary.append("total ").append((System.nanoTime() - startNanos) / 1_000_000).append(" ms");
+        System.err.println(summary);
+    }
+
+    /**
+     * Merasterisasi icon moment dengan ukuran dan warna yang dipakai UI.
+     */
+    private static void warmUpIcons() {
+        double scale = getScreenScale();
+        PathIcons.warmUp(20, Color.WHITE, scale);
+        PathIcons.warmUp(18, Color.WHITE, scale);
+        PathIcons.warmUp(24, null, scale);
+    }
+
+    /**
+     * Memuat DataStore lalu menghubungkan ImageCache ke lokasi thumbnail-nya.
+     */
+    private static void loadData() {
+        DataStore dataStore = DataStore.getInstance();
+        ImageCache.getInstance().setThumbnailResolver(dataStore::getThumbnailPath);
+    }
+
+    /**
+     * Men-decode gambar dari moment terbaru ke ImageCache.
+     */
+    private static void warmUpImages() {
+        ImageCache.getInstance().prefetch(DataStore.getInstance().getRecentMoments(WARM_UP_IMAGE_COUNT));
+    }
+
+    /**
+     * Mengambil skala layar utama (HiDPI).
+     *
+     * @return skala layar, atau 1.0 jika headless
+     */
+    private static double getScreenScale() {
+        if (GraphicsEnvironment.isHeadless()) return 1.0;
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice()
+            .getDefaultConfiguration()
+            .getDefaultTransform()
+            .getScaleX();
+    }
+}
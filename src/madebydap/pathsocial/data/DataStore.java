@@ -3,15 +3,25 @@ package madebydap.pathsocial.data;
 import madebydap.pathsocial.model.Moment;
 import madebydap.pathsocial.model.MomentType;
 import madebydap.pathsocial.model.User;
+import madebydap.pathsocial.monitor.ExternalSyncReloadEvent;
+import madebydap.pathsocial.monitor.Metrics;
+import madebydap.pathsocial.monitor.TimelineBuildEvent;
 
 import javax.swing.*;
+import java.awt.image.BufferedImage;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Kelas singleton untuk menyimpan dan mengelola data aplikasi.
  * Menggunakan PersistenceManager untuk menyimpan data ke file JSON.
  * Mendukung sinkronisasi real-time antar instance menggunakan FileWatcher.
+ * Akses data dilindungi read-write lock sehingga query aman dijalankan dari thread background.
+ * Operasi publik yang mengakses data merekam latensinya ke Metrics dengan prefix "store.";
+ * reload eksternal dan pembangunan timeline juga dicatat sebagai event JFR.
  * 
  * @author madebydap
  * @version 1.0
@@ -24,11 +34,20 @@ public class DataStore {
     /** Map pengguna dengan ID sebagai key */
     private Map<String, User> users;
     
-    /** Daftar semua moment */
-    private List<Moment> moments;
+    /** Semua moment dalam penyimpanan kolumnar; diganti seluruhnya saat data dimuat ulang */
+    private MomentStore moments;
+
+    /** Graf pertemanan, berbagi kamus ID pengguna dengan moments */
+    private volatile FriendGraph friends;
+
+    /** Saran teman dari graf friends, diganti bersama graf */
+    private volatile FriendSuggestions suggestions;
     
     /** Pengguna yang sedang login */
-    private User currentUser;
+    private volatile User currentUser;
+
+    /** Lock untuk akses data users dan moments */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
     
     /** Manager untuk persistensi data ke file */
     private final PersistenceManager persistence;
@@ -42,17 +61,52 @@ public class DataStore {
     /** Interval pengecekan perubahan file dalam milidetik */
     private static final int SYNC_INTERVAL_MS = 2000;
 
+    /** Versi data global, naik setiap kali data berubah */
+    private final AtomicLong version = new AtomicLong();
+
+    /** Versi timeline per pengguna, dengan ID pengguna sebagai key */
+    private final Map<String, Long> timelineVersions = new ConcurrentHashMap<>();
+
+    /** Versi saat seluruh data terakhir diganti (berlaku untuk semua timeline) */
+    private volatile long reloadVersion = 0;
+
+    /** Cache hasil getTimelineMoments untuk pengguna dan versi tertentu */
+    private volatile MomentSnapshot timelineCache;
+
+    /** Cache hasil getUserMoments untuk pengguna dan versi tertentu */
+    private volatile MomentSnapshot userMomentsCache;
+
+    /** Moment yang sudah tampil tetapi gambarnya belum tersalin, tidak ikut disimpan ke file */
+    private final Map<String, Moment> pendingMoments = new LinkedHashMap<>();
+
     /**
      * Konstruktor private untuk singleton pattern.
-     * Memuat data yang ada dan memulai file watcher.
+     * Memuat data yang ada, memulai file watcher, dan mendaftarkan gauge Metrics
+     * (hanya untuk singleton, agar store benchmark tidak menggantikannya).
      */
     private DataStore() {
-        users = new HashMap<>();
-        moments = new ArrayList<>();
-        persistence = new PersistenceManager();
-        
-        loadData();
+        this(new PersistenceManager());
         startFileWatcher();
+
+        Metrics.gauge("store.users", () -> users.size());
+        Metrics.gauge("store.moments", () -> moments.size());
+        Metrics.gauge("store.version", version::get);
+    }
+
+    /**
+     * Konstruktor DataStore terpisah dari singleton, tanpa file watcher.
+     * Digunakan oleh benchmark dan tool yang bekerja pada folder data sendiri.
+     * 
+     * @param persistence manager persistensi yang menentukan lokasi data
+     */
+    public DataStore(PersistenceManager persistence) {
+        this.users = new HashMap<>();
+        this.moments = new MomentStore(new UserDictionary());
+        this.friends = new FriendGraph(moments.getUsers());
+        this.suggestions = new FriendSuggestions(friends);
+        this.persistence = persistence;
+
+        loadData();
     }
 
     /**
@@ -73,12 +127,23 @@ public class DataStore {
      * Membuat ulang sample users setelah penghapusan.
      */
     public void clearAllData() {
-        persistence.clearAllData();
-        users = new HashMap<>();
-        moments = new ArrayList<>();
-        currentUser = null;
-        createSampleData();
-        saveData();
+        long start = Metrics.start();
+        lock.writeLock().lock();
+        try {
+            persistence.clearAllData();
+            users = new HashMap<>();
+            moments = new MomentStore(new UserDictionary());
+            pendingMoments.clear();
+            friends = new FriendGraph(moments.getUsers());
+            suggestions = new FriendSuggestions(friends);
+            currentUser = null;
+            createSampleData();
+            saveData();
+            markAllChanged();
+        } finally {
+            lock.writeLock().unlock();
+            Metrics.stop("store.clearAllData", start);
+        }
     }
 
     /**
@@ -111,6 +176,78 @@ public class DataStore {
         });
     }
 
+    /**
+     * Mengambil versi data global.
+     * Nilainya naik secara monoton setiap kali ada perubahan data,
+     * sehingga UI cukup membandingkan angka untuk mendeteksi perubahan.
+     * 
+     * @return versi data saat ini
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Mengambil versi graf pertemanan.
+     * Naik setiap kali ada pertemanan baru di mana pun, termasuk di antara teman
+     * dari teman, serta saat data dimuat ulang. O(1).
+     * 
+     * @return versi graf pertemanan
+     */
+    public long getGraphVersion() {
+        return friends.getVersion();
+    }
+
+    /**
+     * Mengambil versi timeline milik pengguna tertentu.
+     * Hanya naik saat ada perubahan yang mempengaruhi timeline pengguna tersebut
+     * (moment miliknya atau temannya, atau perubahan pertemanan). O(1).
+     * 
+     * @param userId ID pengguna
+     * @return versi timeline pengguna
+     */
+    public long getTimelineVersion(String userId) {
+        Long userVersion = timelineVersions.get(userId);
+        return Math.max(reloadVersion, userVersion != null ? userVersion : 0L);
+    }
+
+    /**
+     * Menaikkan versi global dan versi timeline pengguna yang terpengaruh.
+     * 
+     * @param affectedUserIds ID pengguna yang timeline-nya berubah
+     */
+    private void markChanged(Collection<String> affectedUserIds) {
+        long newVersion = version.incrementAndGet();
+        for (String userId : affectedUserIds) {
+            timelineVersions.put(userId, newVersion);
+        }
+    }
+
+    /**
+     * Mengumpulkan pengguna yang timeline-nya memuat moment dari seorang penulis.
+     * Dipanggil saat memegang lock.
+     * 
+     * @param authorId ID penulis moment
+     * @return ID penulis dan semua temannya
+     */
+    private List<String> audienceOf(String authorId) {
+        List<String> audience = new ArrayList<>();
+        audience.add(authorId);
+        User author = users.get(authorId);
+        if (author != null) {
+            audience.addAll(author.getFriendIds());
+        }
+        return audience;
+    }
+
+    /**
+     * Menaikkan versi untuk semua timeline, digunakan saat seluruh data diganti.
+     */
+    private void markAllChanged() {
+        reloadVersion = version.incrementAndGet();
+        timelineVersions.clear();
+    }
+
     /**
      * Memulai thread file watcher untuk mendeteksi perubahan eksternal.
      * Thread berjalan sebagai daemon dan mengecek setiap SYNC_INTERVAL_MS.
@@ -124,7 +261,19 @@ public class DataStore {
 
         fileWatcher.scheduleAtFixedRate(() -> {
             if (persistence.hasExternalChanges()) {
-                loadDataFromFile();
+                long start = Metrics.start();
+                ExternalSyncReloadEvent event = new ExternalSyncReloadEvent();
+                event.begin();
+
+                loadDataFromFile(event);
+                markAllChanged();
+                Metrics.stop("store.externalReload", start);
+
+                event.end();
+                if (event.shouldCommit()) {
+                    event.trigger = "FileWatcher";
+                    event.commit();
+                }
                 notifyChangeListeners();
             }
         }, SYNC_INTERVAL_MS, SYNC_INTERVAL_MS, TimeUnit.MILLISECONDS);
@@ -150,23 +299,48 @@ public class DataStore {
             saveData();
         } else {
             this.users = result.users;
-            this.moments = result.moments;
+            this.moments = toStore(result.moments);
+            this.friends = FriendGraph.build(users.values(), moments.getUsers());
+            this.suggestions = new FriendSuggestions(friends);
         }
     }
 
     /**
      * Memuat ulang data dari file tanpa menghilangkan current user.
+     * Selisih jumlah pengguna dan moment dicatat ke event saat memegang write lock,
+     * sehingga perubahan dari thread lain tidak ikut terhitung.
+     * 
+     * @param event event JFR yang diisi jumlah pengguna dan moment
      */
-    private void loadDataFromFile() {
+    private void loadDataFromFile(ExternalSyncReloadEvent event) {
         PersistenceManager.LoadResult result = persistence.load();
+        MomentStore loaded = toStore(result.moments);
+        FriendGraph graph = FriendGraph.build(result.users.values(), loaded.getUsers());
         
-        String currentUserId = currentUser != null ? currentUser.getId() : null;
-        
-        this.users = result.users;
-        this.moments = result.moments;
-        
-        if (currentUserId != null && users.containsKey(currentUserId)) {
-            this.currentUser = users.get(currentUserId);
+        lock.writeLock().lock();
+        try {
+            String currentUserId = currentUser != null ? currentUser.getId() : null;
+            int usersBefore = users.size();
+            int momentsBefore = moments.size();
+            
+            this.users = result.users;
+            this.moments = loaded;
+            // Pending moments are not in the file yet, keep them visible
+            for (Moment pending : pendingMoments.values()) {
+                loaded.add(pending);
+            }
+            graph.bumpVersion();
+            this.friends = graph;
+            this.suggestions = new FriendSuggestions(graph);
+            event.userDelta = users.size() - usersBefore;
+            event.momentDelta = loaded.size() - momentsBefore;
+            event.moments = loaded.size();
+            
+            if (currentUserId != null && users.containsKey(currentUserId)) {
+                this.currentUser = users.get(currentUserId);
+            }
+        } finally {
+            lock.writeLock().unlock();
         }
     }
 
@@ -174,7 +348,30 @@ public class DataStore {
      * Menyimpan data ke file.
      */
     private void saveData() {
-        persistence.save(users, moments);
+        List<Moment> all = moments.asList();
+        if (pendingMoments.isEmpty()) {
+            persistence.save(users, all);
+            return;
+        }
+        List<Moment> stored = new ArrayList<>(all.size());
+        for (Moment moment : all) {
+            if (!pendingMoments.containsKey(moment.getId())) {
+                stored.add(moment);
+            }
+        }
+        persistence.save(users, stored);
+    }
+
+    /**
+     * Memindahkan moment hasil load ke penyimpanan kolumnar baru.
+     * 
+     * @param loaded moment hasil load, terbaru lebih dulu
+     * @return penyimpanan moment
+     */
+    private static MomentStore toStore(List<Moment> loaded) {
+        MomentStore store = new MomentStore(new UserDictionary());
+        store.addAll(loaded);
+        return store;
     }
 
     /**
@@ -192,9 +389,12 @@ public class DataStore {
 
         alice.addFriend(bob.getId());
         bob.addFriend(alice.getId());
+        UserDictionary dictionary = friends.getUsers();
+        friends.connect(dictionary.intern(alice.getId()), dictionary.intern(bob.getId()));
 
-        moments.add(new Moment(alice.getId(), MomentType.AWAKE, "Jakarta"));
-        moments.add(new Moment(bob.getId(), MomentType.MUSIC, "Smooth Criminal"));
+        moments.addAll(Arrays.asList(
+            new Moment(alice.getId(), MomentType.AWAKE, "Jakarta"),
+            new Moment(bob.getId(), MomentType.MUSIC, "Smooth Criminal")));
     }
 
     // ==================== Operasi Pengguna ====================
@@ -208,16 +408,24 @@ public class DataStore {
      * @return User yang baru dibuat, atau null jika username sudah ada
      */
     public User register(String username, String password, String displayName) {
-        for (User user : users.values()) {
-            if (user.getUsername().equalsIgnoreCase(username)) {
-                return null;
+        long start = Metrics.start();
+        lock.writeLock().lock();
+        try {
+            for (User user : users.values()) {
+                if (user.getUsername().equalsIgnoreCase(username)) {
+                    return null;
+                }
             }
-        }
 
-        User newUser = new User(username, password, displayName);
-        users.put(newUser.getId(), newUser);
-        saveData();
-        return newUser;
+            User newUser = new User(username, password, displayName);
+            users.put(newUser.getId(), newUser);
+            saveData();
+            markChanged(Collections.singletonList(newUser.getId()));
+            return newUser;
+        } finally {
+            lock.writeLock().unlock();
+            Metrics.stop("store.register", start);
+        }
     }
 
     /**
@@ -228,13 +436,20 @@ public class DataStore {
      * @return User jika login berhasil, null jika gagal
      */
     public User login(String username, String password) {
-        for (User user : users.values()) {
-            if (user.authenticate(username, password)) {
-                currentUser = user;
-                return user;
+        long start = Metrics.start();
+        lock.readLock().lock();
+        try {
+            for (User user : users.values()) {
+                if (user.authenticate(username, password)) {
+                    currentUser = user;
+                    return user;
+                }
             }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+            Metrics.stop("store.login", start);
         }
-        return null;
     }
 
     /**
@@ -260,7 +475,14 @@ public class DataStore {
      * @return User dengan ID tersebut, atau null jika tidak ditemukan
      */
     public User getUserById(String id) {
-        return users.get(id);
+        long start = Metrics.start();
+        lock.readLock().lock();
+        try {
+            return users.get(id);
+        } finally {
+            lock.readLock().unlock();
+            Metrics.stop("store.getUserById", start);
+        }
     }
 
     /**
@@ -271,18 +493,44 @@ public class DataStore {
      * @return daftar pengguna yang cocok
      */
     public List<User> searchUsers(String query) {
+        return searchUsers(query, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Mencari pengguna berdasarkan username atau display name dengan batas jumlah hasil.
+     * Aman dipanggil dari thread background; pencarian berhenti lebih awal
+     * jika thread pemanggil di-interrupt (pencarian dibatalkan).
+     * 
+     * @param query kata kunci pencarian
+     * @param limit jumlah hasil maksimal
+     * @return daftar pengguna yang cocok
+     */
+    public List<User> searchUsers(String query, int limit) {
+        long start = Metrics.start();
         List<User> results = new ArrayList<>();
         String lowerQuery = query.toLowerCase();
-
-        for (User user : users.values()) {
-            if (currentUser != null && user.getId().equals(currentUser.getId())) {
-                continue;
-            }
-            if (user.getUsername().toLowerCase().contains(lowerQuery) ||
-                user.getDisplayName().toLowerCase().contains(lowerQuery)) {
-                results.add(user);
+        User current = currentUser;
+
+        lock.readLock().lock();
+        try {
+            int scanned = 0;
+            for (User user : users.values()) {
+                if ((++scanned & 1023) == 0 && Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                if (current != null && user.getId().equals(current.getId())) {
+                    continue;
+                }
+                if (user.getUsername().toLowerCase().contains(lowerQuery) ||
+                    user.getDisplayName().toLowerCase().contains(lowerQuery)) {
+                    results.add(user);
+                    if (results.size() >= limit) break;
+                }
             }
+        } finally {
+            lock.readLock().unlock();
         }
+        Metrics.stop("store.searchUsers", start);
         return results;
     }
 
@@ -295,22 +543,109 @@ public class DataStore {
      * @return true jika berhasil, false jika gagal
      */
     public boolean addFriend(String userId, String friendId) {
-        User user = users.get(userId);
-        User friend = users.get(friendId);
-        
-        if (user == null || friend == null) return false;
-        if (user.isFriend(friendId)) return false;
-        if (!user.canAddFriend() || !friend.canAddFriend()) return false;
-        
-        user.addFriend(friendId);
-        friend.addFriend(userId);
-        
-        String content = friend.getDisplayName();
-        Moment friendshipMoment = new Moment(userId, MomentType.FRIENDSHIP, content);
-        moments.add(0, friendshipMoment);
-        
-        saveData();
-        return true;
+        long start = Metrics.start();
+        lock.writeLock().lock();
+        try {
+            User user = users.get(userId);
+            User friend = users.get(friendId);
+            
+            if (user == null || friend == null) return false;
+            UserDictionary dictionary = friends.getUsers();
+            int userIndex = dictionary.intern(userId);
+            int friendIndex = dictionary.intern(friendId);
+            if (friends.areFriends(userIndex, friendIndex)) return false;
+            if (!user.canAddFriend() || !friend.canAddFriend()) return false;
+            
+            user.addFriend(friendId);
+            friend.addFriend(userId);
+            friends.connect(userIndex, friendIndex);
+            suggestions.friendshipChanged(userIndex, friendIndex);
+            
+            String content = friend.getDisplayName();
+            Moment friendshipMoment = new Moment(userId, MomentType.FRIENDSHIP, content);
+            moments.add(friendshipMoment);
+            
+            saveData();
+            // The friendship moment is authored by userId, so every friend of userId
+            // (now including friendId) sees it on their timeline
+            markChanged(audienceOf(userId));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+            Metrics.stop("store.addFriend", start);
+        }
+    }
+
+    /**
+     * Memeriksa apakah dua pengguna berteman menggunakan graf pertemanan.
+     * 
+     * @param userId ID pengguna pertama
+     * @param otherId ID pengguna kedua
+     * @return true jika berteman
+     */
+    public boolean areFriends(String userId, String otherId) {
+        long start = Metrics.start();
+        try {
+            return friends.areFriends(userId, otherId);
+        } finally {
+            Metrics.stop("store.areFriends", start);
+        }
+    }
+
+    /**
+     * Mengambil daftar teman pengguna.
+     * 
+     * @param userId ID pengguna
+     * @return daftar teman, urut sesuai urutan pertemanan dibuat
+     */
+    public List<User> getFriends(String userId) {
+        long start = Metrics.start();
+        lock.readLock().lock();
+        try {
+            User owner = users.get(userId);
+            if (owner == null) {
+                return new ArrayList<>();
+            }
+            List<User> result = new ArrayList<>(owner.getFriendIds().size());
+            for (String friendId : owner.getFriendIds()) {
+                User user = users.get(friendId);
+                if (user != null) {
+                    result.add(user);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+            Metrics.stop("store.getFriends", start);
+        }
+    }
+
+    /**
+     * Mengambil saran teman ("People you may know") berdasarkan jumlah teman bersama.
+     * Pengguna yang sudah mencapai batas teman dilewati.
+     * 
+     * @param userId ID pengguna
+     * @param limit jumlah saran maksimal (paling banyak FriendSuggestions.TOP_K)
+     * @return saran beserta jumlah teman bersamanya, terbaik lebih dulu
+     */
+    public List<FriendSuggestions.Suggestion> getFriendSuggestions(String userId, int limit) {
+        long start = Metrics.start();
+        lock.readLock().lock();
+        try {
+            UserDictionary dictionary = friends.getUsers();
+            long[] ranked = suggestions.suggest(dictionary.indexOf(userId));
+            List<FriendSuggestions.Suggestion> result = new ArrayList<>(Math.min(limit, ranked.length));
+            for (int i = 0; i < ranked.length && result.size() < limit; i++) {
+                User candidate = users.get(dictionary.idAt(FriendSuggestions.candidateOf(ranked[i])));
+                if (candidate != null && candidate.canAddFriend()) {
+                    result.add(new FriendSuggestions.Suggestion(candidate, FriendSuggestions.mutualCountOf(ranked[i])));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+            Metrics.stop("store.getFriendSuggestions", start);
+        }
     }
 
     // ==================== Operasi Moment ====================
@@ -322,53 +657,317 @@ public class DataStore {
      * @param moment moment yang akan ditambahkan
      */
     public void addMoment(Moment moment) {
-        if (moment.hasImage()) {
+        addMoment(moment, true);
+    }
+
+    /**
+     * Menambahkan moment baru, dengan atau tanpa menyalin gambarnya.
+     * Tanpa penyalinan, path gambar disimpan apa adanya; pemanggil bertanggung jawab
+     * menyalin gambar lebih dulu (importImage), atau memakai addPendingMoment.
+     * 
+     * @param moment moment yang akan ditambahkan
+     * @param copyImage true untuk menyalin gambar secara sinkron sebelum menyimpan
+     */
+    public void addMoment(Moment moment, boolean copyImage) {
+        long start = Metrics.start();
+        if (copyImage && moment.hasImage()) {
             String newPath = persistence.copyImage(moment.getImagePath());
             moment.setImagePath(newPath);
         }
         
-        moments.add(0, moment);
-        saveData();
+        lock.writeLock().lock();
+        try {
+            moments.add(moment);
+            saveData();
+            markChanged(audienceOf(moment.getUserId()));
+        } finally {
+            lock.writeLock().unlock();
+            Metrics.stop("store.addMoment", start);
+        }
+    }
+
+    /**
+     * Menampilkan moment baru sebelum gambarnya selesai disalin.
+     * Moment langsung muncul di timeline tetapi tidak ditulis ke data.json sampai
+     * updateMomentImage dipanggil dengan path hasil salinan; jika penyalinan gagal,
+     * hapus dengan removePendingMoment.
+     * 
+     * @param moment moment baru dengan path gambar asli
+     */
+    public void addPendingMoment(Moment moment) {
+        long start = Metrics.start();
+        lock.writeLock().lock();
+        try {
+            pendingMoments.put(moment.getId(), moment);
+            moments.add(moment);
+            markChanged(audienceOf(moment.getUserId()));
+        } finally {
+            lock.writeLock().unlock();
+            Metrics.stop("store.addPendingMoment", start);
+        }
+    }
+
+    /**
+     * Menghapus moment pending yang gambarnya gagal disalin.
+     * Penyimpanan kolumnar hanya bisa ditambah, jadi store dibangun ulang tanpa
+     * moment tersebut; view lama tetap valid karena menunjuk store lama.
+     * 
+     * @param momentId ID moment
+     * @return true jika moment pending ditemukan dan dihapus
+     */
+    public boolean removePendingMoment(String momentId) {
+        long start = Metrics.start();
+        lock.writeLock().lock();
+        try {
+            Moment pending = pendingMoments.remove(momentId);
+            if (pending == null) return false;
+            int row = moments.indexOfId(momentId);
+            if (row < 0) return false;
+
+            List<Moment> kept = new ArrayList<>(moments.asList());
+            // asList is newest-added first
+            kept.remove(moments.size() - 1 - row);
+            MomentStore rebuilt = new MomentStore(moments.getUsers());
+            rebuilt.addAll(kept);
+            moments = rebuilt;
+            markChanged(audienceOf(pending.getUserId()));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+            Metrics.stop("store.removePendingMoment", start);
+        }
+    }
+
+    /**
+     * Menyalin gambar ke folder aplikasi dengan nama berdasarkan hash isinya.
+     * Aman dipanggil dari thread background.
+     * 
+     * @param sourcePath path file gambar sumber
+     * @return path gambar di folder aplikasi, atau path sumber jika gagal
+     */
+    public String importImage(String sourcePath) {
+        long start = Metrics.start();
+        String imagePath = persistence.copyImage(sourcePath);
+        Metrics.stop("store.importImage", start);
+        return imagePath;
+    }
+
+    /**
+     * Mengambil path thumbnail untuk gambar yang tersimpan di folder aplikasi.
+     * 
+     * @param imagePath path gambar
+     * @return path thumbnail, atau null jika gambar tidak memiliki thumbnail
+     */
+    public String getThumbnailPath(String imagePath) {
+        return persistence.getThumbnailPath(imagePath);
+    }
+
+    /**
+     * Menyimpan thumbnail untuk gambar yang tersimpan di folder aplikasi.
+     * 
+     * @param imagePath path gambar
+     * @param thumbnail gambar thumbnail
+     * @return true jika thumbnail berhasil disimpan
+     */
+    public boolean saveThumbnail(String imagePath, BufferedImage thumbnail) {
+        long start = Metrics.start();
+        boolean saved = persistence.saveThumbnail(imagePath, thumbnail);
+        Metrics.stop("store.saveThumbnail", start);
+        return saved;
+    }
+
+    /**
+     * Mengganti path gambar moment yang sudah ditambahkan, lalu menyimpan data
+     * dan menaikkan versi timeline penulis serta teman-temannya. Moment pending
+     * sekaligus ditandai tersimpan sehingga ikut ditulis ke data.json.
+     * 
+     * @param momentId ID moment
+     * @param imagePath path gambar baru
+     * @return true jika moment ditemukan
+     */
+    public boolean updateMomentImage(String momentId, String imagePath) {
+        long start = Metrics.start();
+        lock.writeLock().lock();
+        try {
+            int row = moments.indexOfId(momentId);
+            if (row < 0) return false;
+            moments.setImagePath(row, imagePath);
+            pendingMoments.remove(momentId);
+            saveData();
+            markChanged(audienceOf(moments.getUsers().idAt(moments.authorAt(row))));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+            Metrics.stop("store.updateMomentImage", start);
+        }
     }
 
     /**
      * Mengambil daftar moment untuk timeline.
      * Hanya menampilkan moment dari pengguna sendiri dan teman-teman.
+     * Hasil di-cache per versi timeline, sehingga pemanggilan berulang tanpa
+     * perubahan data tidak memindai ulang semua moment.
      * 
-     * @return daftar moment yang relevan, diurutkan dari terbaru
+     * @return daftar moment yang relevan (tidak dapat diubah), diurutkan dari terbaru
      */
     public List<Moment> getTimelineMoments() {
-        if (currentUser == null) return new ArrayList<>();
+        User user = currentUser;
+        if (user == null) return Collections.emptyList();
+        return getTimelineMoments(user);
+    }
+
+    /**
+     * Mengambil daftar moment untuk timeline pengguna tertentu.
+     * 
+     * @param userId ID pengguna pemilik timeline
+     * @return daftar moment yang relevan (tidak dapat diubah), diurutkan dari terbaru
+     */
+    public List<Moment> getTimelineMoments(String userId) {
+        User user = getUserById(userId);
+        if (user == null) return Collections.emptyList();
+        return getTimelineMoments(user);
+    }
+
+    /**
+     * Mengambil timeline dari cache atau membangunnya jika versi sudah berubah.
+     * 
+     * @param user pengguna pemilik timeline
+     * @return daftar moment timeline (tidak dapat diubah)
+     */
+    private List<Moment> getTimelineMoments(User user) {
+        long start = Metrics.start();
+        long timelineVersion = getTimelineVersion(user.getId());
+        MomentSnapshot cached = timelineCache;
+        if (cached != null && cached.matches(user.getId(), timelineVersion)) {
+            Metrics.increment("store.getTimelineMoments.cacheHit");
+            return cached.moments;
+        }
 
-        List<Moment> timeline = new ArrayList<>();
-        Set<String> visibleUserIds = new HashSet<>();
-        visibleUserIds.add(currentUser.getId());
-        visibleUserIds.addAll(currentUser.getFriendIds());
+        List<Moment> timeline = Collections.unmodifiableList(buildTimeline(user));
+        timelineCache = new MomentSnapshot(user.getId(), timelineVersion, timeline);
+        Metrics.stop("store.getTimelineMoments", start);
+        return timeline;
+    }
 
-        for (Moment moment : moments) {
-            if (visibleUserIds.contains(moment.getUserId())) {
-                timeline.add(moment);
+    /**
+     * Memindai semua moment dan mengumpulkan moment untuk timeline pengguna.
+     * 
+     * @param user pengguna pemilik timeline
+     * @return daftar moment timeline, diurutkan dari terbaru
+     */
+    private List<Moment> buildTimeline(User user) {
+        TimelineBuildEvent event = new TimelineBuildEvent();
+        event.begin();
+        List<Moment> timeline;
+        int friendCount;
+        int scanned;
+
+        lock.readLock().lock();
+        try {
+            MomentStore store = moments;
+            FriendGraph graph = friends;
+            // The graph shares the moment store's dictionary, so its indices are author indices
+            int self = store.getUsers().indexOf(user.getId());
+            friendCount = graph.degree(self);
+            scanned = store.size();
+
+            if (self < 0) {
+                timeline = new ArrayList<>();
+            } else {
+                BitSet visibleAuthors = new BitSet(store.getUsers().size());
+                visibleAuthors.set(self);
+                graph.addFriendsTo(self, visibleAuthors);
+                timeline = store.byAuthors(visibleAuthors);
             }
+        } finally {
+            lock.readLock().unlock();
         }
 
-        timeline.sort((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()));
+        event.end();
+        if (event.shouldCommit()) {
+            event.userId = user.getId();
+            event.friends = friendCount;
+            event.scanned = scanned;
+            event.returned = timeline.size();
+            event.commit();
+        }
         return timeline;
     }
 
     /**
      * Mengambil daftar moment milik pengguna tertentu.
+     * Hasil di-cache per versi timeline pengguna tersebut.
      * 
      * @param userId ID pengguna
-     * @return daftar moment pengguna tersebut, diurutkan dari terbaru
+     * @return daftar moment pengguna tersebut (tidak dapat diubah), diurutkan dari terbaru
      */
     public List<Moment> getUserMoments(String userId) {
-        List<Moment> userMoments = new ArrayList<>();
-        for (Moment moment : moments) {
-            if (moment.getUserId().equals(userId)) {
-                userMoments.add(moment);
-            }
+        long start = Metrics.start();
+        long userVersion = getTimelineVersion(userId);
+        MomentSnapshot cached = userMomentsCache;
+        if (cached != null && cached.matches(userId, userVersion)) {
+            Metrics.increment("store.getUserMoments.cacheHit");
+            return cached.moments;
         }
-        userMoments.sort((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()));
+
+        List<Moment> userMoments = Collections.unmodifiableList(buildUserMoments(userId));
+        userMomentsCache = new MomentSnapshot(userId, userVersion, userMoments);
+        Metrics.stop("store.getUserMoments", start);
         return userMoments;
     }
+
+    /**
+     * Memindai semua moment dan mengumpulkan moment milik pengguna tertentu.
+     * 
+     * @param userId ID pengguna
+     * @return daftar moment pengguna, diurutkan dari terbaru
+     */
+    private List<Moment> buildUserMoments(String userId) {
+        lock.readLock().lock();
+        try {
+            int author = moments.getUsers().indexOf(userId);
+            return author >= 0 ? moments.byAuthor(author) : new ArrayList<>();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mengambil moment terbaru dari semua pengguna.
+     * Digunakan untuk warm-up cache saat startup, sebelum ada pengguna yang login.
+     * 
+     * @param limit jumlah moment maksimal
+     * @return daftar moment terbaru, diurutkan dari terbaru
+     */
+    public List<Moment> getRecentMoments(int limit) {
+        long start = Metrics.start();
+        List<Moment> recent;
+        lock.readLock().lock();
+        try {
+            recent = moments.recent(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        Metrics.stop("store.getRecentMoments", start);
+        return recent;
+    }
+
+    /**
+     * Snapshot daftar moment yang terikat pada pengguna dan versi data tertentu.
+     */
+    private static final class MomentSnapshot {
+        private final String userId;
+        private final long version;
+        private final List<Moment> moments;
+
+        MomentSnapshot(String userId, long version, List<Moment> moments) {
+            this.userId = userId;
+            this.version = version;
+            this.moments = moments;
+        }
+
+        boolean matches(String userId, long version) {
+            return this.version == version && this.userId.equals(userId);
+        }
+    }
 }
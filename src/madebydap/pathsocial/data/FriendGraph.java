@@ -0,0 +1,237 @@
+package madebydap.pathsocial.data;
+
+import madebydap.pathsocial.model.User;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Graf pertemanan dengan pengguna sebagai indeks int padat dari UserDictionary.
+ * Daftar teman tiap pengguna disimpan sebagai int[] terurut, sehingga cek pertemanan
+ * O(log d) dengan binary search dan iterasi tanpa alokasi.
+ * 
+ * Kamus dibagi dengan MomentStore, sehingga bitset teman bisa langsung dipakai
+ * untuk memfilter kolom penulis saat membangun timeline.
+ * 
+ * Array tetangga tidak pernah diubah setelah dipublikasikan; setiap perubahan
+ * membuat array baru (derajat maksimal User.MAX_FRIENDS sehingga murah).
+ * Perubahan di-synchronize; pembacaan aman dari thread mana pun tanpa lock.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class FriendGraph {
+
+    /** Kapasitas awal jumlah pengguna */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Array tetangga kosong */
+    private static final int[] NO_FRIENDS = new int[0];
+
+    /** Sumber versi bersama, agar versi tetap naik meskipun graf diganti saat reload */
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    /** Kamus ID pengguna ke indeks */
+    private final UserDictionary users;
+
+    /** Array tetangga terurut per indeks pengguna; null berarti belum punya teman */
+    private volatile AtomicReferenceArray<int[]> adjacency = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+    /** Versi graf, naik setiap kali pertemanan ditambahkan */
+    private volatile long version = VERSIONS.incrementAndGet();
+
+    /**
+     * Konstruktor FriendGraph.
+     * 
+     * @param users kamus ID pengguna, biasanya sama dengan milik MomentStore
+     */
+    public FriendGraph(UserDictionary users) {
+        this.users = users;
+    }
+
+    /**
+     * Membangun graf dari daftar teman setiap pengguna.
+     * 
+     * @param allUsers semua pengguna
+     * @param users kamus ID pengguna
+     * @return graf pertemanan
+     */
+    public static FriendGraph build(Collection<User> allUsers, UserDictionary users) {
+        FriendGraph graph = new FriendGraph(users);
+        for (User user : allUsers) {
+            int index = users.intern(user.getId());
+            for (String friendId : user.getFriendIds()) {
+                graph.connect(index, users.intern(friendId));
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Mengambil kamus ID pengguna yang dipakai graf ini.
+     * 
+     * @return kamus ID pengguna
+     */
+    public UserDictionary getUsers() {
+        return users;
+    }
+
+    // ==================== Perubahan ====================
+
+    /**
+     * Menghubungkan dua pengguna sebagai teman (dua arah).
+     * 
+     * @param a indeks pengguna pertama
+     * @param b indeks pengguna kedua
+     * @return true jika pertemanan baru ditambahkan
+     */
+    public synchronized boolean connect(int a, int b) {
+        if (a == b || areFriends(a, b)) return false;
+        ensureCapacity(Math.max(a, b) + 1);
+        adjacency.set(a, insert(friendsOf(a), b));
+        adjacency.set(b, insert(friendsOf(b), a));
+        version = VERSIONS.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Menaikkan versi graf tanpa mengubah isinya. Dipanggil saat graf yang dibangun
+     * di luar lock dipasang, agar versinya lebih besar dari graf yang digantikan.
+     */
+    synchronized void bumpVersion() {
+        version = VERSIONS.incrementAndGet();
+    }
+
+    // ==================== Query ====================
+
+    /**
+     * Mengambil teman pengguna sebagai array indeks terurut.
+     * Array yang dikembalikan adalah milik graf dan tidak boleh diubah; isinya
+     * tidak berubah meskipun graf diubah setelahnya.
+     * 
+     * @param user indeks pengguna
+     * @return indeks teman terurut naik, kosong jika tidak ada
+     */
+    public int[] friendsOf(int user) {
+        AtomicReferenceArray<int[]> current = adjacency;
+        if (user < 0 || user >= current.length()) return NO_FRIENDS;
+        int[] friends = current.get(user);
+        return friends != null ? friends : NO_FRIENDS;
+    }
+
+    /**
+     * Mengambil jumlah teman pengguna.
+     * 
+     * @param user indeks pengguna
+     * @return jumlah teman
+     */
+    public int degree(int user) {
+        return friendsOf(user).length;
+    }
+
+    /**
+     * Memeriksa apakah dua pengguna berteman.
+     * 
+     * @param a indeks pengguna pertama
+     * @param b indeks pengguna kedua
+     * @return true jika berteman
+     */
+    public boolean areFriends(int a, int b) {
+        return b >= 0 && indexIn(friendsOf(a), b) >= 0;
+    }
+
+    /**
+     * Memeriksa apakah dua pengguna berteman berdasarkan ID.
+     * 
+     * @param userId ID pengguna pertama
+     * @param otherId ID pengguna kedua
+     * @return true jika berteman
+     */
+    public boolean areFriends(String userId, String otherId) {
+        return areFriends(users.indexOf(userId), users.indexOf(otherId));
+    }
+
+    /**
+     * Menandai semua teman pengguna di bitset.
+     * 
+     * @param user indeks pengguna
+     * @param target bitset yang diisi
+     */
+    public void addFriendsTo(int user, BitSet target) {
+        for (int friend : friendsOf(user)) {
+            target.set(friend);
+        }
+    }
+
+    /**
+     * Mengambil versi graf. Naik setiap kali pertemanan ditambahkan; graf yang
+     * menggantikan graf lain dinaikkan lewat bumpVersion saat dipasang.
+     * 
+     * @return versi graf
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    // ==================== Helper ====================
+
+    /**
+     * Memperbesar array tetangga jika perlu. Hanya dipanggil dari method synchronized.
+     * 
+     * @param required jumlah pengguna minimal
+     */
+    private void ensureCapacity(int required) {
+        AtomicReferenceArray<int[]> current = adjacency;
+        if (required <= current.length()) return;
+
+        int capacity = current.length();
+        while (capacity < required) capacity *= 2;
+        AtomicReferenceArray<int[]> grown = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        adjacency = grown;
+    }
+
+    /**
+     * Mencari posisi nilai di array terurut.
+     * 
+     * @param sorted array terurut
+     * @param value nilai yang dicari
+     * @return posisi nilai, atau negatif seperti Arrays.binarySearch
+     */
+    private static int indexIn(int[] sorted, int value) {
+        int low = 0;
+        int high = sorted.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int current = sorted[mid];
+            if (current < value) {
+                low = mid + 1;
+            } else if (current > value) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Membuat array terurut baru dengan satu nilai tambahan.
+     * 
+     * @param sorted array terurut yang belum berisi value
+     * @param value nilai yang ditambahkan
+     * @return array baru
+     */
+    private static int[] insert(int[] sorted, int value) {
+        int position = -(indexIn(sorted, value) + 1);
+        int[] result = new int[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, position);
+        result[position] = value;
+        System.arraycopy(sorted, position, result, position + 1, sorted.length - position);
+        return result;
+    }
+}
@@ -0,0 +1,220 @@
+package madebydap.pathsocial.data;
+
+import madebydap.pathsocial.model.User;
+import madebydap.pathsocial.monitor.Metrics;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mesin saran "People you may know" berdasarkan graf pertemanan.
+ * Kandidat adalah teman dari teman yang belum berteman dengan pengguna, diurutkan
+ * berdasarkan jumlah teman bersama. Setiap sisi teman-ke-kandidat yang ditelusuri
+ * adalah satu teman bersama, sehingga jumlahnya didapat dari penelusuran dua langkah
+ * yang sama tanpa membaca daftar teman kandidat; hanya TOP_K terbaik yang disimpan
+ * dengan min-heap berukuran tetap.
+ * 
+ * Seluruh penelusuran dibatasi MAX_VISITS sisi per query sehingga biayanya tidak
+ * bergantung pada ukuran graf; jika batas tercapai, jumlah teman bersama dihitung
+ * dari sisi yang sempat ditelusuri. Hasil di-cache per pengguna (LRU); saat pertemanan a-b berubah,
+ * hanya cache a, b, dan teman-teman keduanya yang dihapus, karena hanya merekalah
+ * yang kandidat atau jumlah teman bersamanya bisa berubah.
+ * 
+ * Setiap saran dikembalikan sebagai long yang memuat indeks kandidat dan jumlah
+ * teman bersamanya (lihat candidateOf dan mutualCountOf), sehingga pemanggil tidak
+ * perlu menghitung ulang jumlah teman bersama.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class FriendSuggestions {
+
+    /** Jumlah saran maksimal yang disimpan per pengguna */
+    public static final int TOP_K = 20;
+
+    /** Jumlah sisi maksimal yang ditelusuri per query */
+    private static final int MAX_VISITS = 10_000;
+
+    /** Jumlah pengguna maksimal yang hasilnya disimpan di cache */
+    private static final int MAX_CACHED_USERS = 1024;
+
+    /** Hasil kosong */
+    private static final long[] NONE = new long[0];
+
+    /** Graf pertemanan sumber saran */
+    private final FriendGraph graph;
+
+    /** Saran terurut per indeks pengguna, urut dari yang paling lama tidak dipakai */
+    private final Map<Integer, long[]> cache = new LinkedHashMap<Integer, long[]>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, long[]> eldest) {
+            return size() > MAX_CACHED_USERS;
+        }
+    };
+
+    /** Naik setiap kali cache diinvalidasi, agar hasil yang dihitung bersamaan tidak disimpan */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Saran teman beserta jumlah teman bersamanya.
+     */
+    public static final class Suggestion {
+        private final User user;
+        private final int mutualFriends;
+
+        Suggestion(User user, int mutualFriends) {
+            this.user = user;
+            this.mutualFriends = mutualFriends;
+        }
+
+        /** @return pengguna yang disarankan */
+        public User getUser() { return user; }
+
+        /** @return jumlah teman bersama dengan pengguna yang meminta saran */
+        public int getMutualFriends() { return mutualFriends; }
+    }
+
+    /**
+     * Konstruktor FriendSuggestions.
+     * 
+     * @param graph graf pertemanan
+     */
+    public FriendSuggestions(FriendGraph graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Mengambil saran teman untuk pengguna, dari cache jika ada.
+     * 
+     * @param user indeks pengguna
+     * @return saran terbaik lebih dulu (paling banyak TOP_K), dibaca dengan candidateOf dan mutualCountOf
+     */
+    public long[] suggest(int user) {
+        if (user < 0) return NONE;
+
+        long observed = generation.get();
+        synchronized (cache) {
+            long[] cached = cache.get(user);
+            if (cached != null) {
+                Metrics.increment("suggestions.cacheHit");
+                return cached.clone();
+            }
+        }
+
+        long start = Metrics.start();
+        long[] ranked = compute(user);
+        Metrics.stop("suggestions.compute", start);
+
+        synchronized (cache) {
+            if (generation.get() == observed) {
+                cache.put(user, ranked);
+            }
+        }
+        return ranked.clone();
+    }
+
+    /**
+     * Memberi tahu bahwa pertemanan dua pengguna berubah.
+     * Panggil setelah graf diubah agar teman-teman terbaru ikut diinvalidasi.
+     * 
+     * @param a indeks pengguna pertama
+     * @param b indeks pengguna kedua
+     */
+    public void friendshipChanged(int a, int b) {
+        generation.incrementAndGet();
+        synchronized (cache) {
+            invalidate(a);
+            invalidate(b);
+        }
+    }
+
+    /**
+     * Menghapus cache pengguna dan teman-temannya. Dipanggil di dalam synchronized (cache).
+     * 
+     * @param user indeks pengguna
+     */
+    private void invalidate(int user) {
+        cache.remove(user);
+        for (int friend : graph.friendsOf(user)) {
+            cache.remove(friend);
+        }
+    }
+
+    /**
+     * Menghitung saran teman tanpa cache.
+     * 
+     * @param user indeks pengguna
+     * @return saran terbaik lebih dulu, dibaca dengan candidateOf dan mutualCountOf
+     */
+    long[] compute(int user) {
+        int[] friends = graph.friendsOf(user);
+        if (friends.length == 0) return NONE;
+
+        // Bounded two-hop traversal; every friend -> candidate edge is one mutual friend
+        int[] visited = new int[64];
+        int count = 0;
+        int visits = 0;
+        traversal:
+        for (int friend : friends) {
+            for (int candidate : graph.friendsOf(friend)) {
+                if (++visits > MAX_VISITS) break traversal;
+                if (candidate == user || Arrays.binarySearch(friends, candidate) >= 0) continue;
+                if (count == visited.length) visited = Arrays.copyOf(visited, count * 2);
+                visited[count++] = candidate;
+            }
+        }
+
+        // Sorting groups the visits per candidate; each run length is the mutual count.
+        // Min-heap of (mutual count, lower index wins ties) keeps only the best TOP_K
+        Arrays.sort(visited, 0, count);
+        PriorityQueue<Long> heap = new PriorityQueue<>(TOP_K + 1);
+        for (int i = 0; i < count; ) {
+            int candidate = visited[i];
+            int end = i + 1;
+            while (end < count && visited[end] == candidate) end++;
+            heap.offer(rank(end - i, candidate));
+            if (heap.size() > TOP_K) heap.poll();
+            i = end;
+        }
+
+        long[] ranked = new long[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = heap.poll();
+        }
+        return ranked;
+    }
+
+    /**
+     * Mengambil indeks kandidat dari satu saran.
+     * 
+     * @param suggestion elemen hasil suggest
+     * @return indeks pengguna yang disarankan
+     */
+    public static int candidateOf(long suggestion) {
+        return Integer.MAX_VALUE - (int) suggestion;
+    }
+
+    /**
+     * Mengambil jumlah teman bersama dari satu saran.
+     * 
+     * @param suggestion elemen hasil suggest
+     * @return jumlah teman bersama
+     */
+    public static int mutualCountOf(long suggestion) {
+        return (int) (suggestion >>> 32);
+    }
+
+    /**
+     * Menggabungkan jumlah teman bersama dan indeks kandidat menjadi satu kunci urut.
+     * 
+     * @param mutual jumlah teman bersama
+     * @param candidate indeks kandidat
+     * @return kunci yang lebih besar untuk kandidat yang lebih baik
+     */
+    private static long rank(int mutual, int candidate) {
+        return ((long) mutual << 32) | (Integer.MAX_VALUE - candidate);
+    }
+}
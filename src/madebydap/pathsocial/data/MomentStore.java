@@ -0,0 +1,534 @@
+package madebydap.pathsocial.data;
+
+import madebydap.pathsocial.model.IdGenerator;
+import madebydap.pathsocial.model.Moment;
+import madebydap.pathsocial.model.MomentType;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Penyimpanan moment kolumnar (struct-of-arrays) di memori.
+ * Setiap moment disimpan sebagai satu baris di beberapa array primitif: kunci ID (long,
+ * lihat IdGenerator), indeks penulis dari UserDictionary (int), timestamp epoch-millis
+ * (long), ordinal tipe (byte), dan offset/panjang isi di dalam satu arena char bersama.
+ * ID lama (UUID) disimpan juga sebagai string karena tidak bisa dipulihkan dari
+ * kuncinya. Pemindaian timeline cukup membaca array int dan long tanpa mengikuti
+ * pointer ke objek Moment.
+ * 
+ * Moment dibaca lewat view flyweight (subclass Moment) yang hanya menyimpan nomor baris.
+ * Baris hanya ditambahkan, tidak pernah diubah kecuali path gambar, dan kolom yang
+ * diperbesar dipublikasikan lewat field volatile, sehingga view aman dibaca tanpa lock.
+ * Penambahan baris harus dilakukan di bawah write lock DataStore. Timestamp dipetakan
+ * ke epoch-millis dengan offset UTC, sehingga presisi di bawah milidetik tidak disimpan.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class MomentStore {
+
+    /** Kapasitas awal kolom */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Semua tipe moment, diindeks dengan ordinal */
+    private static final MomentType[] TYPES = MomentType.values();
+
+    /** Kamus ID pengguna untuk kolom penulis */
+    private final UserDictionary users;
+
+    /** Kunci ID moment per baris (IdGenerator.keyOf) */
+    private volatile long[] idKeys = new long[INITIAL_CAPACITY];
+
+    /** ID moment asli untuk baris dengan ID lama (bukan desimal), null untuk ID 64-bit */
+    private volatile String[] legacyIds = new String[INITIAL_CAPACITY];
+
+    /** Indeks penulis per baris */
+    private volatile int[] authors = new int[INITIAL_CAPACITY];
+
+    /** Timestamp epoch-millis (UTC) per baris */
+    private volatile long[] timestamps = new long[INITIAL_CAPACITY];
+
+    /** Ordinal MomentType per baris */
+    private volatile byte[] types = new byte[INITIAL_CAPACITY];
+
+    /** Offset isi di arena per baris */
+    private volatile int[] contentOffsets = new int[INITIAL_CAPACITY];
+
+    /** Panjang isi per baris */
+    private volatile int[] contentLengths = new int[INITIAL_CAPACITY];
+
+    /** Arena karakter berisi isi semua moment secara berurutan */
+    private volatile char[] arena = new char[INITIAL_CAPACITY * 16];
+
+    /** Jumlah karakter terpakai di arena */
+    private int arenaSize = 0;
+
+    /** Path gambar per baris (satu-satunya kolom yang bisa berubah) */
+    private volatile AtomicReferenceArray<String> imagePaths = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+    /** Jumlah baris */
+    private volatile int size = 0;
+
+    /**
+     * Konstruktor MomentStore.
+     * 
+     * @param users kamus ID pengguna untuk kolom penulis
+     */
+    public MomentStore(UserDictionary users) {
+        this.users = users;
+    }
+
+    /**
+     * Mengambil kamus ID pengguna yang dipakai store ini.
+     * 
+     * @return kamus ID pengguna
+     */
+    public UserDictionary getUsers() {
+        return users;
+    }
+
+    /**
+     * Mengambil jumlah moment.
+     * 
+     * @return jumlah baris
+     */
+    public int size() {
+        return size;
+    }
+
+    // ==================== Penambahan ====================
+
+    /**
+     * Menambahkan moment sebagai moment terbaru.
+     * 
+     * @param moment moment yang ditambahkan
+     * @return nomor baris moment
+     */
+    public int add(Moment moment) {
+        int row = size;
+        ensureCapacity(row + 1);
+
+        String content = moment.getContent() != null ? moment.getContent() : "";
+        ensureArena(arenaSize + content.length());
+        content.getChars(0, content.length(), arena, arenaSize);
+
+        String id = moment.getId();
+        idKeys[row] = IdGenerator.keyOf(id);
+        legacyIds[row] = IdGenerator.isCompact(id) ? null : id;
+        authors[row] = users.intern(moment.getUserId());
+        timestamps[row] = toEpochMillis(moment.getTimestamp());
+        types[row] = (byte) moment.getType().ordinal();
+        contentOffsets[row] = arenaSize;
+        contentLengths[row] = content.length();
+        imagePaths.set(row, moment.getImagePath());
+        arenaSize += content.length();
+
+        size = row + 1;
+        return row;
+    }
+
+    /**
+     * Menambahkan daftar moment yang diurutkan dari terbaru (urutan data.json).
+     * Moment paling akhir di daftar disimpan lebih dulu sehingga asList()
+     * mengembalikan urutan yang sama.
+     * 
+     * @param newestFirst daftar moment, terbaru lebih dulu
+     */
+    public void addAll(List<Moment> newestFirst) {
+        ensureCapacity(size + newestFirst.size());
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            add(newestFirst.get(i));
+        }
+    }
+
+    // ==================== Akses kolom ====================
+
+    /**
+     * Mengambil ID moment.
+     * 
+     * @param row nomor baris
+     * @return ID moment
+     */
+    public String idAt(int row) {
+        String legacy = legacyIds[row];
+        return legacy != null ? legacy : Long.toString(idKeys[row]);
+    }
+
+    /**
+     * Mengambil indeks penulis moment di UserDictionary.
+     * 
+     * @param row nomor baris
+     * @return indeks penulis
+     */
+    public int authorAt(int row) {
+        return authors[row];
+    }
+
+    /**
+     * Mengambil tipe moment.
+     * 
+     * @param row nomor baris
+     * @return tipe moment
+     */
+    public MomentType typeAt(int row) {
+        return TYPES[types[row]];
+    }
+
+    /**
+     * Membuat string isi moment dari arena.
+     * 
+     * @param row nomor baris
+     * @return isi moment
+     */
+    public String contentAt(int row) {
+        return new String(arena, contentOffsets[row], contentLengths[row]);
+    }
+
+    /**
+     * Mengambil path gambar moment.
+     * 
+     * @param row nomor baris
+     * @return path gambar, atau null
+     */
+    public String imagePathAt(int row) {
+        return imagePaths.get(row);
+    }
+
+    /**
+     * Mengganti path gambar moment.
+     * 
+     * @param row nomor baris
+     * @param imagePath path gambar baru
+     */
+    public void setImagePath(int row, String imagePath) {
+        imagePaths.set(row, imagePath);
+    }
+
+    /**
+     * Mencari nomor baris moment berdasarkan ID, dari yang terbaru.
+     * Pemindaian membandingkan kunci long; string hanya dibandingkan untuk ID lama.
+     * 
+     * @param momentId ID moment
+     * @return nomor baris, atau -1 jika tidak ditemukan
+     */
+    public int indexOfId(String momentId) {
+        if (momentId == null) return -1;
+        long key = IdGenerator.keyOf(momentId);
+        boolean legacy = !IdGenerator.isCompact(momentId);
+        int n = size;
+        long[] keyColumn = idKeys;
+        String[] legacyColumn = legacyIds;
+        for (int row = n - 1; row >= 0; row--) {
+            if (keyColumn[row] == key && (!legacy || momentId.equals(legacyColumn[row]))) return row;
+        }
+        return -1;
+    }
+
+    // ==================== Pemindaian ====================
+
+    /**
+     * Mengumpulkan moment yang penulisnya ada di himpunan, diurutkan dari terbaru.
+     * Pemindaian hanya membaca kolom penulis; hasil dibungkus sebagai view.
+     * 
+     * @param authorSet himpunan indeks penulis
+     * @return daftar view moment, diurutkan dari timestamp terbaru
+     */
+    public List<Moment> byAuthors(BitSet authorSet) {
+        int[] rows = new int[16];
+        int count = 0;
+        int n = size;
+        int[] authorColumn = authors;
+        for (int row = n - 1; row >= 0; row--) {
+            if (authorSet.get(authorColumn[row])) {
+                if (count == rows.length) rows = Arrays.copyOf(rows, count * 2);
+                rows[count++] = row;
+            }
+        }
+        return viewsNewestFirst(rows, count);
+    }
+
+    /**
+     * Mengumpulkan moment milik satu penulis, diurutkan dari terbaru.
+     * 
+     * @param author indeks penulis
+     * @return daftar view moment, diurutkan dari timestamp terbaru
+     */
+    public List<Moment> byAuthor(int author) {
+        int[] rows = new int[16];
+        int count = 0;
+        int n = size;
+        int[] authorColumn = authors;
+        for (int row = n - 1; row >= 0; row--) {
+            if (authorColumn[row] == author) {
+                if (count == rows.length) rows = Arrays.copyOf(rows, count * 2);
+                rows[count++] = row;
+            }
+        }
+        return viewsNewestFirst(rows, count);
+    }
+
+    /**
+     * Mengambil moment dengan timestamp terbaru dari semua penulis.
+     * 
+     * @param limit jumlah moment maksimal
+     * @return daftar view moment, diurutkan dari timestamp terbaru
+     */
+    public List<Moment> recent(int limit) {
+        int n = size;
+        int[] rows = new int[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = n - 1 - i;
+        }
+        sortNewestFirst(rows, n);
+        return views(rows, Math.min(Math.max(limit, 0), n));
+    }
+
+    /**
+     * Mengurutkan nomor baris dari timestamp terbaru (stabil) lalu membungkusnya sebagai view.
+     * 
+     * @param rows nomor baris, dalam urutan baris terbaru lebih dulu
+     * @param count jumlah nomor baris yang terpakai
+     * @return daftar view moment
+     */
+    private List<Moment> viewsNewestFirst(int[] rows, int count) {
+        sortNewestFirst(rows, count);
+        return views(rows, count);
+    }
+
+    /**
+     * Mengurutkan nomor baris dari timestamp terbaru (stabil).
+     * 
+     * @param rows nomor baris, dalam urutan baris terbaru lebih dulu
+     * @param count jumlah nomor baris yang terpakai
+     */
+    private void sortNewestFirst(int[] rows, int count) {
+        long[] timestampColumn = timestamps;
+        if (!isNewestFirst(rows, count, timestampColumn)) {
+            mergeSort(rows, Arrays.copyOf(rows, count), 0, count, timestampColumn);
+        }
+    }
+
+    /**
+     * Membungkus nomor baris pertama sebagai view.
+     * 
+     * @param rows nomor baris terurut
+     * @param count jumlah baris yang dibungkus
+     * @return daftar view moment
+     */
+    private List<Moment> views(int[] rows, int count) {
+        List<Moment> views = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            views.add(new View(rows[i]));
+        }
+        return views;
+    }
+
+    /**
+     * Memeriksa apakah nomor baris sudah urut dari timestamp terbaru.
+     * Kasus umum karena moment biasanya ditambahkan sesuai urutan waktu.
+     * 
+     * @param rows nomor baris
+     * @param count jumlah nomor baris
+     * @param keys kolom timestamp
+     * @return true jika sudah urut
+     */
+    private static boolean isNewestFirst(int[] rows, int count, long[] keys) {
+        for (int i = 1; i < count; i++) {
+            if (keys[rows[i - 1]] < keys[rows[i]]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Merge sort stabil atas nomor baris dengan kunci timestamp menurun.
+     * 
+     * @param dest array tujuan
+     * @param src salinan array dengan isi yang sama
+     * @param from indeks awal (inklusif)
+     * @param to indeks akhir (eksklusif)
+     * @param keys kolom timestamp
+     */
+    private static void mergeSort(int[] dest, int[] src, int from, int to, long[] keys) {
+        if (to - from < 2) return;
+        int mid = (from + to) >>> 1;
+        // Sort each half of src using dest as scratch, then merge src into dest
+        mergeSort(src, dest, from, mid, keys);
+        mergeSort(src, dest, mid, to, keys);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && keys[src[left]] >= keys[src[right]])) {
+                dest[i] = src[left++];
+            } else {
+                dest[i] = src[right++];
+            }
+        }
+    }
+
+    // ==================== View ====================
+
+    /**
+     * Mengambil semua moment sebagai daftar read-only, terbaru ditambahkan lebih dulu
+     * (urutan yang sama dengan data.json). Setiap akses membuat view baru.
+     * 
+     * @return daftar view moment
+     */
+    public List<Moment> asList() {
+        int n = size;
+        return new RowList(n);
+    }
+
+    /**
+     * Daftar read-only atas baris store dalam urutan terbaru ditambahkan lebih dulu.
+     */
+    private final class RowList extends AbstractList<Moment> implements RandomAccess {
+        private final int count;
+
+        RowList(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public Moment get(int index) {
+            if (index < 0 || index >= count) throw new IndexOutOfBoundsException("Index: " + index);
+            return new View(count - 1 - index);
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+
+    /**
+     * View flyweight atas satu baris store. ID, isi, dan timestamp dibuat saat pertama
+     * kali diminta lalu disimpan di view, sehingga view yang dipakai UI tidak
+     * membuat objek baru di setiap paint. View bersifat read-only; path gambar
+     * hanya bisa diubah lewat DataStore.updateMomentImage.
+     */
+    private final class View extends Moment {
+        private final int row;
+        private String id;
+        private String content;
+        private LocalDateTime timestamp;
+
+        View(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String getId() {
+            String value = id;
+            if (value == null) {
+                value = idAt(row);
+                id = value;
+            }
+            return value;
+        }
+
+        @Override
+        public String getUserId() {
+            return users.idAt(authors[row]);
+        }
+
+        @Override
+        public MomentType getType() {
+            return typeAt(row);
+        }
+
+        @Override
+        public String getContent() {
+            String value = content;
+            if (value == null) {
+                value = contentAt(row);
+                content = value;
+            }
+            return value;
+        }
+
+        @Override
+        public LocalDateTime getTimestamp() {
+            LocalDateTime value = timestamp;
+            if (value == null) {
+                value = fromEpochMillis(timestamps[row]);
+                timestamp = value;
+            }
+            return value;
+        }
+
+        @Override
+        public String getImagePath() {
+            return imagePathAt(row);
+        }
+
+        @Override
+        public void setImagePath(String imagePath) {
+            // Column writes need the DataStore write lock
+            throw new UnsupportedOperationException("Use DataStore.updateMomentImage to change a stored moment");
+        }
+    }
+
+    // ==================== Internal ====================
+
+    /**
+     * Memperbesar semua kolom jika kapasitas kurang.
+     * 
+     * @param capacity jumlah baris yang dibutuhkan
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= idKeys.length) return;
+        int newCapacity = Math.max(capacity, idKeys.length * 2);
+        idKeys = Arrays.copyOf(idKeys, newCapacity);
+        legacyIds = Arrays.copyOf(legacyIds, newCapacity);
+        authors = Arrays.copyOf(authors, newCapacity);
+        timestamps = Arrays.copyOf(timestamps, newCapacity);
+        types = Arrays.copyOf(types, newCapacity);
+        contentOffsets = Arrays.copyOf(contentOffsets, newCapacity);
+        contentLengths = Arrays.copyOf(contentLengths, newCapacity);
+
+        AtomicReferenceArray<String> oldPaths = imagePaths;
+        AtomicReferenceArray<String> newPaths = new AtomicReferenceArray<>(newCapacity);
+        for (int i = 0; i < size; i++) {
+            newPaths.set(i, oldPaths.get(i));
+        }
+        imagePaths = newPaths;
+    }
+
+    /**
+     * Memperbesar arena jika kapasitas kurang.
+     * 
+     * @param capacity jumlah karakter yang dibutuhkan
+     */
+    private void ensureArena(int capacity) {
+        if (capacity <= arena.length) return;
+        arena = Arrays.copyOf(arena, Math.max(capacity, arena.length * 2));
+    }
+
+    /**
+     * Mengubah LocalDateTime ke epoch-millis dengan offset UTC.
+     * 
+     * @param time waktu lokal
+     * @return epoch-millis
+     */
+    static long toEpochMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * Mengubah epoch-millis (offset UTC) kembali ke LocalDateTime.
+     * 
+     * @param millis epoch-millis
+     * @return waktu lokal
+     */
+    static LocalDateTime fromEpochMillis(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
@@ -3,9 +3,17 @@ package madebydap.pathsocial.data;
 import madebydap.pathsocial.model.Moment;
 import madebydap.pathsocial.model.MomentType;
 import madebydap.pathsocial.model.User;
+import madebydap.pathsocial.monitor.Metrics;
+import madebydap.pathsocial.monitor.PersistenceLoadEvent;
+import madebydap.pathsocial.monitor.PersistenceSaveEvent;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
 import java.io.*;
 import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -14,6 +22,8 @@ import java.util.regex.*;
 /**
  * Kelas untuk mengelola persistensi data ke file JSON.
  * Menyimpan dan memuat data pengguna serta moment tanpa library eksternal.
+ * Latensi save, load, dan copyImage direkam ke Metrics dengan prefix "persistence.",
+ * dan save/load juga dicatat sebagai event JFR saat perekaman Flight Recorder aktif.
  * 
  * @author madebydap
  * @version 1.0
@@ -25,12 +35,18 @@ public class PersistenceManager {
     
     /** Nama folder untuk menyimpan gambar */
     private static final String IMAGES_DIR = "images";
+
+    /** Nama subfolder thumbnail di dalam folder gambar */
+    private static final String THUMBNAILS_DIR = "thumbs";
     
     /** Path ke file data */
     private final Path dataPath;
     
     /** Path ke folder gambar */
     private final Path imagesPath;
+
+    /** Path ke folder thumbnail */
+    private final Path thumbnailsPath;
     
     /** Waktu modifikasi terakhir file data */
     private long lastModified = 0;
@@ -40,13 +56,23 @@ public class PersistenceManager {
      * Membuat direktori yang diperlukan di folder home user.
      */
     public PersistenceManager() {
-        Path baseDir = Paths.get(System.getProperty("user.home"), ".pathsocial");
+        this(Paths.get(System.getProperty("user.home"), ".pathsocial"));
+    }
+
+    /**
+     * Konstruktor PersistenceManager dengan folder data tertentu.
+     * Digunakan oleh benchmark dan tool agar data pengguna tidak tersentuh.
+     * 
+     * @param baseDir folder tempat data.json dan folder gambar disimpan
+     */
+    public PersistenceManager(Path baseDir) {
         this.dataPath = baseDir.resolve(DATA_FILE);
         this.imagesPath = baseDir.resolve(IMAGES_DIR);
+        this.thumbnailsPath = imagesPath.resolve(THUMBNAILS_DIR);
         
         try {
             Files.createDirectories(baseDir);
-            Files.createDirectories(imagesPath);
+            Files.createDirectories(thumbnailsPath);
         } catch (IOException e) {
             System.err.println("[Persistence] Failed to create directories: " + e.getMessage());
         }
@@ -75,7 +101,7 @@ public class PersistenceManager {
                     });
             }
             
-            Files.createDirectories(imagesPath);
+            Files.createDirectories(thumbnailsPath);
             return true;
         } catch (IOException e) {
             System.err.println("[Persistence] Failed to clear data: " + e.getMessage());
@@ -105,6 +131,8 @@ public class PersistenceManager {
 
     /**
      * Menyalin gambar ke folder aplikasi.
+     * File disalin dan di-hash SHA-256 dalam satu kali baca, lalu disimpan dengan
+     * nama berdasarkan hash sehingga gambar yang sama hanya disimpan sekali.
      * 
      * @param sourcePath path file gambar sumber
      * @return path baru gambar setelah disalin
@@ -112,19 +140,122 @@ public class PersistenceManager {
     public String copyImage(String sourcePath) {
         if (sourcePath == null || sourcePath.isEmpty()) return null;
         
+        long start = Metrics.start();
+        Path temp = null;
         try {
             Path source = Paths.get(sourcePath);
             if (!Files.exists(source)) return sourcePath;
-            
-            String fileName = UUID.randomUUID().toString() + getExtension(sourcePath);
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            temp = Files.createTempFile(imagesPath, "import-", ".tmp");
+            try (InputStream in = new DigestInputStream(Files.newInputStream(source), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String fileName = toHex(digest.digest()) + getExtension(sourcePath);
             Path dest = imagesPath.resolve(fileName);
-            Files.copy(source, dest, StandardCopyOption.REPLACE_EXISTING);
+            if (Files.exists(dest)) {
+                Files.delete(temp);
+            } else {
+                moveIntoPlace(temp, dest);
+            }
             
             return dest.toString();
-        } catch (IOException e) {
+        } catch (IOException | NoSuchAlgorithmException e) {
             System.err.println("[Persistence] Failed to copy image: " + e.getMessage());
+            Metrics.increment("persistence.copyImage.failures");
+            deleteQuietly(temp);
             return sourcePath;
+        } finally {
+            Metrics.stop("persistence.copyImage", start);
+        }
+    }
+
+    /**
+     * Mengambil path thumbnail untuk gambar yang tersimpan di folder aplikasi.
+     * 
+     * @param imagePath path gambar
+     * @return path thumbnail, atau null jika gambar berada di luar folder aplikasi
+     */
+    public String getThumbnailPath(String imagePath) {
+        if (imagePath == null || imagePath.isEmpty()) return null;
+
+        Path image = Paths.get(imagePath);
+        if (!imagesPath.equals(image.getParent())) return null;
+        return thumbnailsPath.resolve(image.getFileName() + ".png").toString();
+    }
+
+    /**
+     * Menyimpan thumbnail untuk gambar yang tersimpan di folder aplikasi.
+     * Thumbnail ditulis ke file sementara lalu dipindahkan, sehingga pembaca
+     * tidak pernah melihat file yang setengah tertulis.
+     * 
+     * @param imagePath path gambar
+     * @param thumbnail gambar thumbnail
+     * @return true jika thumbnail berhasil disimpan
+     */
+    public boolean saveThumbnail(String imagePath, BufferedImage thumbnail) {
+        String thumbnailPath = getThumbnailPath(imagePath);
+        if (thumbnailPath == null) return false;
+
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(thumbnailsPath, "thumb-", ".tmp");
+            if (!ImageIO.write(thumbnail, "png", temp.toFile())) {
+                deleteQuietly(temp);
+                return false;
+            }
+            moveIntoPlace(temp, Paths.get(thumbnailPath));
+            return true;
+        } catch (IOException e) {
+            System.err.println("[Persistence] Failed to save thumbnail: " + e.getMessage());
+            deleteQuietly(temp);
+            return false;
+        }
+    }
+
+    /**
+     * Memindahkan file sementara ke tujuan akhir, secara atomik jika didukung file system.
+     * 
+     * @param temp file sementara
+     * @param dest path tujuan
+     * @throws IOException jika file gagal dipindahkan
+     */
+    private void moveIntoPlace(Path temp, Path dest) throws IOException {
+        try {
+            Files.move(temp, dest, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, dest, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Menghapus file tanpa melempar exception.
+     * 
+     * @param path file yang dihapus (boleh null)
+     */
+    private void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            System.err.println("[Persistence] Failed to delete: " + path);
+        }
+    }
+
+    /**
+     * Mengubah byte menjadi string heksadesimal.
+     * 
+     * @param bytes byte yang diubah
+     * @return string heksadesimal huruf kecil
+     */
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+            hex.append(Character.forDigit(b & 0xF, 16));
         }
+        return hex.toString();
     }
 
     /**
@@ -145,6 +276,9 @@ public class PersistenceManager {
      * @param moments daftar moment yang akan disimpan
      */
     public void save(Map<String, User> users, List<Moment> moments) {
+        long start = Metrics.start();
+        PersistenceSaveEvent event = new PersistenceSaveEvent();
+        event.begin();
         StringBuilder json = new StringBuilder();
         json.append("{\n");
         
@@ -169,8 +303,20 @@ public class PersistenceManager {
         try {
             Files.writeString(dataPath, json.toString());
             lastModified = Files.getLastModifiedTime(dataPath).toMillis();
+            Metrics.add("persistence.save.chars", json.length());
+            event.succeeded = true;
         } catch (IOException e) {
             System.err.println("[Persistence] Failed to save: " + e.getMessage());
+            Metrics.increment("persistence.save.failures");
+        }
+        Metrics.stop("persistence.save", start);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.bytes = fileSizeOrZero();
+            event.users = users.size();
+            event.moments = moments.size();
+            event.commit();
         }
     }
 
@@ -244,19 +390,46 @@ public class PersistenceManager {
             return result;
         }
         
+        long start = Metrics.start();
+        PersistenceLoadEvent event = new PersistenceLoadEvent();
+        event.begin();
         try {
             String json = Files.readString(dataPath);
             lastModified = Files.getLastModifiedTime(dataPath).toMillis();
             
             result.users = parseUsers(json);
             result.moments = parseMoments(json);
+            event.succeeded = true;
         } catch (IOException e) {
             System.err.println("[Persistence] Failed to load: " + e.getMessage());
+            Metrics.increment("persistence.load.failures");
+        }
+        Metrics.stop("persistence.load", start);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.bytes = fileSizeOrZero();
+            event.users = result.users.size();
+            event.moments = result.moments.size();
+            event.commit();
         }
         
         return result;
     }
 
+    /**
+     * Mengambil ukuran file data untuk event JFR.
+     * 
+     * @return ukuran data.json dalam byte, atau 0 jika tidak bisa dibaca
+     */
+    private long fileSizeOrZero() {
+        try {
+            return Files.size(dataPath);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
     /**
      * Parsing data pengguna dari string JSON.
      * 
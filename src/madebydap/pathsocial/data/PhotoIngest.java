@@ -0,0 +1,195 @@
+package madebydap.pathsocial.data;
+
+import madebydap.pathsocial.model.Moment;
+import madebydap.pathsocial.monitor.Metrics;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipeline ingest foto untuk moment PHOTO yang berjalan di luar EDT.
+ * Tahap persiapan: validasi dan probe header tanpa men-decode pixel (decode untuk
+ * preview dilakukan UI lewat ImageCache). Tahap commit: moment langsung tampil sebagai
+ * pending, lalu di background file disalin dan di-hash ke folder aplikasi, thumbnail
+ * disimpan, dan moment disimpan dengan path hasil salinan.
+ * Durasi commit direkam ke Metrics sebagai "ingest.commit".
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class PhotoIngest {
+
+    /** Ukuran file maksimal yang diterima (50 MB) */
+    public static final long MAX_FILE_BYTES = 50L * 1024 * 1024;
+
+    /** Jumlah pixel maksimal yang diterima (100 megapixel) */
+    public static final long MAX_PIXELS = 100_000_000L;
+
+    /** Lama thread commit menganggur sebelum berhenti, dalam detik */
+    private static final long IDLE_SECONDS = 5;
+
+    /** Batas waktu menunggu commit yang tersisa saat aplikasi keluar, dalam detik */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    /** Executor untuk tahap commit, satu thread agar penyalinan berurutan */
+    private static ExecutorService commitExecutor;
+
+    /**
+     * Hasil probe header gambar.
+     */
+    public static final class Probe {
+        private final String format;
+        private final int width;
+        private final int height;
+        private final long bytes;
+
+        Probe(String format, int width, int height, long bytes) {
+            this.format = format;
+            this.width = width;
+            this.height = height;
+            this.bytes = bytes;
+        }
+
+        /** @return nama format gambar (contoh: "jpeg") */
+        public String getFormat() { return format; }
+
+        /** @return lebar gambar asli */
+        public int getWidth() { return width; }
+
+        /** @return tinggi gambar asli */
+        public int getHeight() { return height; }
+
+        /** @return ukuran file dalam byte */
+        public long getBytes() { return bytes; }
+    }
+
+    /**
+     * Konstruktor private untuk mencegah instansiasi.
+     */
+    private PhotoIngest() {}
+
+    /**
+     * Memvalidasi file dan membaca ukuran gambar dari header tanpa men-decode pixel.
+     * 
+     * @param file file gambar
+     * @return hasil probe
+     * @throws IOException dengan pesan untuk pengguna jika file tidak valid
+     */
+    public static Probe probe(File file) throws IOException {
+        if (!file.isFile()) {
+            throw new IOException("File not found");
+        }
+        long bytes = file.length();
+        if (bytes > MAX_FILE_BYTES) {
+            throw new IOException("Image is larger than " + MAX_FILE_BYTES / (1024 * 1024) + " MB");
+        }
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    throw new IOException("Image dimensions are too large");
+                }
+                return new Probe(reader.getFormatName(), width, height, bytes);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Menampilkan moment sebagai pending sekarang juga, lalu di background menyalin
+     * gambarnya ke folder aplikasi, menyimpan thumbnail, dan menyimpan moment dengan
+     * path hasil salinan. data.json tidak pernah berisi path di luar folder aplikasi.
+     * Jika penyalinan gagal, moment dihapus dari timeline dan future selesai dengan
+     * IOException. Tugas yang masih antre ditunggu sampai selesai saat aplikasi keluar.
+     * 
+     * @param dataStore DataStore tujuan
+     * @param moment moment baru dengan path gambar asli pilihan pengguna
+     * @param thumbnail gambar ukuran tampilan yang sudah di-decode, atau null
+     * @return future yang selesai dengan moment setelah tersimpan
+     */
+    public static CompletableFuture<Moment> commitAsync(DataStore dataStore, Moment moment, BufferedImage thumbnail) {
+        String sourcePath = moment.getImagePath();
+        dataStore.addPendingMoment(moment);
+        return CompletableFuture.supplyAsync(() -> {
+            long start = Metrics.start();
+            try {
+                String storedPath = dataStore.importImage(sourcePath);
+                if (storedPath == null || storedPath.equals(sourcePath)) {
+                    dataStore.removePendingMoment(moment.getId());
+                    Metrics.increment("ingest.commit.failures");
+                    System.err.println("[Ingest] Failed to store image: " + sourcePath);
+                    throw new CompletionException(new IOException("The image could not be copied into the app folder"));
+                }
+                if (thumbnail != null) {
+                    dataStore.saveThumbnail(storedPath, thumbnail);
+                }
+
+                dataStore.updateMomentImage(moment.getId(), storedPath);
+                moment.setImagePath(storedPath);
+                return moment;
+            } finally {
+                Metrics.stop("ingest.commit", start);
+            }
+        }, getCommitExecutor());
+    }
+
+    /**
+     * Menunggu semua commit yang masih antre selesai. Dipanggil dari shutdown hook.
+     */
+    private static void drain() {
+        ExecutorService executor;
+        synchronized (PhotoIngest.class) {
+            executor = commitExecutor;
+        }
+        if (executor == null) return;
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("[Ingest] Pending image copies did not finish before exit");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Mengambil executor commit, membuatnya jika belum ada.
+     * Thread-nya bukan daemon sehingga tidak mati di tengah penyalinan; thread berhenti
+     * sendiri saat menganggur agar tidak menahan JVM, dan antrean dikuras lewat shutdown hook.
+     * 
+     * @return executor commit
+     */
+    private static synchronized ExecutorService getCommitExecutor() {
+        if (commitExecutor == null) {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+                IDLE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                r -> new Thread(r, "PhotoIngest"));
+            executor.allowCoreThreadTimeOut(true);
+            commitExecutor = executor;
+            Runtime.getRuntime().addShutdownHook(new Thread(PhotoIngest::drain, "PhotoIngest-shutdown"));
+        }
+        return commitExecutor;
+    }
+}
@@ -0,0 +1,88 @@
+package madebydap.pathsocial.data;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kamus ID pengguna ke indeks int yang padat (0, 1, 2, ...).
+ * Dipakai struktur data kolumnar agar ID pengguna cukup disimpan sebagai int
+ * dan himpunan pengguna bisa direpresentasikan sebagai bitset.
+ * Indeks tidak pernah berubah atau dipakai ulang; saat seluruh data diganti,
+ * buat kamus baru agar view lama tetap membaca kamus yang sesuai.
+ * Penambahan di-synchronize; pembacaan aman dari thread mana pun.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class UserDictionary {
+
+    /** Kapasitas awal array ID */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Indeks dengan ID pengguna sebagai key */
+    private final Map<String, Integer> indices = new ConcurrentHashMap<>();
+
+    /** ID pengguna per indeks */
+    private volatile String[] ids = new String[INITIAL_CAPACITY];
+
+    /** Jumlah ID yang terdaftar */
+    private volatile int size = 0;
+
+    /**
+     * Mengambil indeks ID pengguna, mendaftarkannya jika belum ada.
+     * 
+     * @param userId ID pengguna
+     * @return indeks pengguna
+     */
+    public int intern(String userId) {
+        Integer index = indices.get(userId);
+        if (index != null) return index;
+
+        synchronized (this) {
+            index = indices.get(userId);
+            if (index != null) return index;
+
+            int next = size;
+            String[] current = ids;
+            if (next == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[next] = userId;
+            ids = current;
+            indices.put(userId, next);
+            size = next + 1;
+            return next;
+        }
+    }
+
+    /**
+     * Mengambil indeks ID pengguna tanpa mendaftarkannya.
+     * 
+     * @param userId ID pengguna
+     * @return indeks pengguna, atau -1 jika belum terdaftar
+     */
+    public int indexOf(String userId) {
+        Integer index = userId != null ? indices.get(userId) : null;
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Mengambil ID pengguna untuk suatu indeks.
+     * 
+     * @param index indeks pengguna
+     * @return ID pengguna
+     */
+    public String idAt(int index) {
+        return ids[index];
+    }
+
+    /**
+     * Mengambil jumlah ID yang terdaftar.
+     * 
+     * @return jumlah ID
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,218 @@
+package madebydap.pathsocial.model;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator ID 64-bit yang terurut waktu (gaya Snowflake) untuk pengguna dan moment.
+ * Susunan bit: 41 bit milidetik sejak EPOCH, 10 bit ID instance, 12 bit sequence.
+ * ID selalu positif, naik secara monoton di satu proses (termasuk saat jam mundur),
+ * dan dibuat tanpa lock dan tanpa SecureRandom sehingga tidak berebut saat ingest paralel.
+ * 
+ * ID disimpan sebagai string desimal agar format data.json tidak berubah. Data lama
+ * yang memakai UUID tetap valid; keyOf memetakan kedua bentuk ke kunci long
+ * (UUID lama ke kunci negatif sehingga tidak pernah bertabrakan dengan ID baru).
+ * 
+ * ID instance diambil dari -Dpathsocial.instanceId (0-1023). Tanpa property itu,
+ * proses mengklaim ID bebas terkecil dengan mengunci file ~/.pathsocial/instances/instance-N.lock
+ * selama proses berjalan, sehingga beberapa instance aplikasi yang berbagi satu data.json
+ * tidak pernah memakai ID instance yang sama. ID acak hanya dipakai jika klaim gagal.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class IdGenerator {
+
+    /** Property untuk ID instance */
+    public static final String INSTANCE_PROPERTY = "pathsocial.instanceId";
+
+    /** Awal hitungan waktu ID: 2024-01-01T00:00:00Z */
+    public static final long EPOCH = 1704067200000L;
+
+    /** Jumlah bit ID instance */
+    private static final int INSTANCE_BITS = 10;
+
+    /** Jumlah bit sequence */
+    private static final int SEQUENCE_BITS = 12;
+
+    /** Nilai sequence maksimal dalam satu milidetik */
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    /** Nilai ID instance maksimal */
+    private static final long MAX_INSTANCE = (1L << INSTANCE_BITS) - 1;
+
+    /** Geser bit untuk bagian waktu */
+    private static final int TIME_SHIFT = INSTANCE_BITS + SEQUENCE_BITS;
+
+    /** Folder file lock ID instance */
+    private static final Path LOCK_DIR = Paths.get(System.getProperty("user.home"), ".pathsocial", "instances");
+
+    /** Lock ID instance yang ditahan sampai proses berakhir; disimpan agar channel-nya tidak ditutup */
+    private static FileLock instanceLock;
+
+    /** Instance singleton */
+    private static IdGenerator instance;
+
+    /** ID instance proses ini */
+    private final long instanceId;
+
+    /** Gabungan waktu dan sequence terakhir: (milidetik sejak EPOCH << 12) | sequence */
+    private final AtomicLong last = new AtomicLong();
+
+    /**
+     * Konstruktor private untuk singleton pattern.
+     */
+    private IdGenerator() {
+        this(claimInstanceId());
+    }
+
+    /**
+     * Menentukan ID instance proses ini: dari property jika diset dan valid, jika tidak
+     * dengan mengunci file lock ID bebas terkecil.
+     * 
+     * @return ID instance (0-1023)
+     */
+    private static long claimInstanceId() {
+        String configured = System.getProperty(INSTANCE_PROPERTY);
+        if (configured != null) {
+            try {
+                long id = Long.parseLong(configured.trim());
+                if (id >= 0 && id <= MAX_INSTANCE) return id;
+            } catch (NumberFormatException e) {
+                // Reported below
+            }
+            System.err.println("[IdGenerator] Ignoring -D" + INSTANCE_PROPERTY + "=" + configured
+                    + ", it must be between 0 and " + MAX_INSTANCE);
+        }
+
+        try {
+            Files.createDirectories(LOCK_DIR);
+            for (int id = 0; id <= MAX_INSTANCE; id++) {
+                FileChannel channel = FileChannel.open(LOCK_DIR.resolve("instance-" + id + ".lock"),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                FileLock lock = null;
+                try {
+                    lock = channel.tryLock();
+                } catch (OverlappingFileLockException e) {
+                    // Already held by this JVM
+                } catch (IOException e) {
+                    channel.close();
+                    throw e;
+                }
+                if (lock != null) {
+                    instanceLock = lock;
+                    return id;
+                }
+                channel.close();
+            }
+            System.err.println("[IdGenerator] No free instance id, using a random one");
+        } catch (IOException e) {
+            System.err.println("[IdGenerator] Failed to claim instance id: " + e.getMessage());
+        }
+        return ThreadLocalRandom.current().nextLong(MAX_INSTANCE + 1);
+    }
+
+    /**
+     * Konstruktor dengan ID instance tertentu.
+     * 
+     * @param instanceId ID instance (0-1023)
+     */
+    IdGenerator(long instanceId) {
+        if (instanceId < 0 || instanceId > MAX_INSTANCE) {
+            throw new IllegalArgumentException("Instance id must be between 0 and " + MAX_INSTANCE);
+        }
+        this.instanceId = instanceId;
+    }
+
+    /**
+     * Mengambil instance singleton IdGenerator.
+     * 
+     * @return instance IdGenerator
+     */
+    public static synchronized IdGenerator getInstance() {
+        if (instance == null) {
+            instance = new IdGenerator();
+        }
+        return instance;
+    }
+
+    /**
+     * Membuat ID baru.
+     * 
+     * @return ID 64-bit positif yang lebih besar dari semua ID sebelumnya di proses ini
+     */
+    public long nextId() {
+        while (true) {
+            long previous = last.get();
+            long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+            // Same millisecond or clock moved back: continue the sequence; overflow borrows the next millisecond
+            long next = now > previous ? now : previous + 1;
+            if (last.compareAndSet(previous, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                long sequence = next & MAX_SEQUENCE;
+                return (millis << TIME_SHIFT) | (instanceId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    /**
+     * Membuat ID baru dalam bentuk string desimal.
+     * 
+     * @return ID baru
+     */
+    public String next() {
+        return Long.toString(nextId());
+    }
+
+    /**
+     * Memeriksa apakah string ID adalah bentuk desimal kanonik dari ID 64-bit
+     * (bukan UUID lama), sehingga bisa dikembalikan persis dari kuncinya.
+     * 
+     * @param id string ID
+     * @return true jika id bisa dipulihkan dari keyOf(id) dengan Long.toString
+     */
+    public static boolean isCompact(String id) {
+        int length = id != null ? id.length() : 0;
+        if (length == 0 || length > 19) return false;
+        if (id.charAt(0) == '0' && length > 1) return false;
+        for (int i = 0; i < length; i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        // 19 digits can still exceed Long.MAX_VALUE
+        return length < 19 || id.compareTo("9223372036854775807") <= 0;
+    }
+
+    /**
+     * Memetakan string ID ke kunci long.
+     * ID desimal dipetakan ke nilainya sendiri. UUID lama dan string lain dipetakan
+     * ke kunci negatif dari campuran bit-nya; kunci ini cocok untuk hashing dan
+     * pencarian cepat, tetapi tabrakan tetap mungkin sehingga harus dicek ulang.
+     * 
+     * @param id string ID
+     * @return kunci long
+     */
+    public static long keyOf(String id) {
+        if (id == null) return Long.MIN_VALUE;
+        if (isCompact(id)) {
+            return Long.parseLong(id);
+        }
+        long mixed;
+        try {
+            UUID uuid = UUID.fromString(id);
+            mixed = uuid.getMostSignificantBits() * 0x9E3779B97F4A7C15L ^ uuid.getLeastSignificantBits();
+        } catch (IllegalArgumentException e) {
+            mixed = id.hashCode() * 0x9E3779B97F4A7C15L;
+        }
+        return mixed | Long.MIN_VALUE;
+    }
+}
@@ -3,16 +3,23 @@ package madebydap.pathsocial.model;
 import java.time.LocalDateTime;
 import java.time.Duration;
 import java.time.format.DateTimeFormatter;
-import java.util.UUID;
 
 /**
  * Kelas yang merepresentasikan sebuah moment/postingan di Path Social.
  * Moment adalah konten yang dibagikan pengguna seperti foto, musik, lokasi, dll.
+ * Subclass dapat menjadi view (flyweight) atas penyimpanan lain dengan meng-override
+ * getter data; method format hanya membaca data melalui getter.
  * 
  * @author madebydap
  * @version 1.0
  */
 public class Moment {
+
+    /** Formatter jam:menit yang dipakai bersama semua moment */
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    /** Formatter tanggal lengkap yang dipakai bersama semua moment */
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy");
     
     /** ID unik moment */
     private final String id;
@@ -32,6 +39,15 @@ public class Moment {
     /** Path ke file gambar (untuk moment tipe PHOTO) */
     private String imagePath;
 
+    /** Cache hasil getFormattedTime */
+    private String formattedTime;
+
+    /** Cache hasil getFormattedDate */
+    private String formattedDate;
+
+    /** Cache hasil getRelativeTime untuk selisih menit terakhir */
+    private RelativeTime relativeTime;
+
     /**
      * Konstruktor untuk membuat moment baru tanpa gambar.
      * 
@@ -40,7 +56,7 @@ public class Moment {
      * @param content konten teks moment
      */
     public Moment(String userId, MomentType type, String content) {
-        this.id = UUID.randomUUID().toString();
+        this.id = IdGenerator.getInstance().next();
         this.userId = userId;
         this.type = type;
         this.content = content;
@@ -81,6 +97,20 @@ public class Moment {
         this.timestamp = timestamp;
     }
 
+    /**
+     * Konstruktor untuk subclass view yang menyimpan datanya di tempat lain.
+     * Semua field dibiarkan kosong; subclass wajib meng-override getId, getUserId,
+     * getType, getContent, getTimestamp, getImagePath, dan setImagePath
+     * (view yang read-only boleh melempar UnsupportedOperationException).
+     */
+    protected Moment() {
+        this.id = null;
+        this.userId = null;
+        this.type = null;
+        this.content = null;
+        this.timestamp = null;
+    }
+
     /**
      * Mengambil ID moment.
      * @return ID unik moment
@@ -142,7 +172,8 @@ public class Moment {
      * @return true jika moment memiliki gambar
      */
     public boolean hasImage() {
-        return imagePath != null && !imagePath.isEmpty();
+        String path = getImagePath();
+        return path != null && !path.isEmpty();
     }
 
     /**
@@ -150,8 +181,12 @@ public class Moment {
      * @return waktu terformat (contoh: "14:30")
      */
     public String getFormattedTime() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
-        return timestamp.format(formatter);
+        String formatted = formattedTime;
+        if (formatted == null) {
+            formatted = getTimestamp().format(TIME_FORMATTER);
+            formattedTime = formatted;
+        }
+        return formatted;
     }
 
     /**
@@ -159,8 +194,12 @@ public class Moment {
      * @return tanggal terformat (contoh: "21 Dec 2024")
      */
     public String getFormattedDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM yyyy");
-        return timestamp.format(formatter);
+        String formatted = formattedDate;
+        if (formatted == null) {
+            formatted = getTimestamp().format(DATE_FORMATTER);
+            formattedDate = formatted;
+        }
+        return formatted;
     }
 
     /**
@@ -170,9 +209,36 @@ public class Moment {
      * @return waktu relatif dalam format yang mudah dibaca
      */
     public String getRelativeTime() {
-        LocalDateTime now = LocalDateTime.now();
-        long minutes = Duration.between(timestamp, now).toMinutes();
-        
+        return getRelativeTime(LocalDateTime.now());
+    }
+
+    /**
+     * Mengambil waktu relatif terhadap waktu tertentu.
+     * Pemanggil yang memformat banyak moment sekaligus sebaiknya memakai satu nilai now.
+     * Hasil di-cache selama selisih menitnya sama.
+     * 
+     * @param now waktu acuan
+     * @return waktu relatif dalam format yang mudah dibaca
+     */
+    public String getRelativeTime(LocalDateTime now) {
+        long minutes = Duration.between(getTimestamp(), now).toMinutes();
+        RelativeTime cached = relativeTime;
+        if (cached != null && cached.minutes == minutes) {
+            return cached.text;
+        }
+
+        String text = formatRelativeTime(minutes);
+        relativeTime = new RelativeTime(minutes, text);
+        return text;
+    }
+
+    /**
+     * Memformat selisih menit menjadi teks waktu relatif.
+     * 
+     * @param minutes selisih menit dari waktu pembuatan
+     * @return waktu relatif dalam format yang mudah dibaca
+     */
+    private String formatRelativeTime(long minutes) {
         if (minutes < 1) return "Just now";
         if (minutes < 60) return minutes + "m ago";
         
@@ -184,4 +250,18 @@ public class Moment {
         
         return getFormattedDate();
     }
+
+    /**
+     * Pasangan selisih menit dan teks waktu relatif yang sudah diformat.
+     * Immutable agar aman dibaca dari beberapa thread.
+     */
+    private static final class RelativeTime {
+        private final long minutes;
+        private final String text;
+
+        RelativeTime(long minutes, String text) {
+            this.minutes = minutes;
+            this.text = text;
+        }
+    }
 }
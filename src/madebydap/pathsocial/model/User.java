@@ -1,8 +1,8 @@
 package madebydap.pathsocial.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Kelas yang merepresentasikan pengguna di aplikasi Path Social.
@@ -27,23 +27,31 @@ public class User {
     
     /** Nama tampilan pengguna */
     private String displayName;
+
+    /** Inisial pengguna, dihitung ulang saat nama tampilan berubah */
+    private String initials;
     
-    /** Daftar ID teman pengguna */
+    /**
+     * Daftar ID teman pengguna, bentuk yang disimpan ke data.json. Di aplikasi,
+     * DataStore mengubah daftar ini dan FriendGraph bersamaan di bawah write lock;
+     * query pertemanan memakai FriendGraph.
+     */
     private final List<String> friendIds;
 
     /**
      * Konstruktor untuk membuat pengguna baru.
-     * ID akan digenerate secara otomatis menggunakan UUID.
+     * ID akan digenerate secara otomatis menggunakan IdGenerator.
      * 
      * @param username username untuk login
      * @param password password pengguna
      * @param displayName nama yang ditampilkan di profil
      */
     public User(String username, String password, String displayName) {
-        this.id = UUID.randomUUID().toString();
+        this.id = IdGenerator.getInstance().next();
         this.username = username;
         this.password = password;
         this.displayName = displayName;
+        this.initials = computeInitials(username, displayName);
         this.friendIds = new ArrayList<>();
     }
 
@@ -61,6 +69,7 @@ public class User {
         this.username = username;
         this.password = password;
         this.displayName = displayName;
+        this.initials = computeInitials(username, displayName);
         this.friendIds = new ArrayList<>();
     }
 
@@ -102,31 +111,52 @@ public class User {
      */
     public void setDisplayName(String displayName) {
         this.displayName = displayName;
+        this.initials = computeInitials(username, displayName);
     }
 
     /**
      * Mengambil inisial dari nama tampilan pengguna.
-     * Digunakan untuk menampilkan avatar.
+     * Digunakan untuk menampilkan avatar. Nilai sudah dihitung sebelumnya.
      * 
      * @return inisial pengguna (1-2 karakter)
      */
     public String getInitials() {
-        if (displayName == null || displayName.isEmpty()) {
+        return initials;
+    }
+
+    /**
+     * Menghitung inisial dari huruf pertama kata pertama dan kata terakhir nama tampilan.
+     * Jika nama tampilan kosong, menggunakan huruf pertama username.
+     * 
+     * @param username username pengguna
+     * @param displayName nama tampilan pengguna
+     * @return inisial pengguna (1-2 karakter)
+     */
+    private static String computeInitials(String username, String displayName) {
+        String name = displayName != null ? displayName.trim() : "";
+        if (name.isEmpty()) {
             return username.substring(0, 1).toUpperCase();
         }
-        String[] parts = displayName.trim().split("\\s+");
-        if (parts.length >= 2) {
-            return (parts[0].charAt(0) + "" + parts[parts.length - 1].charAt(0)).toUpperCase();
+
+        int lastWordStart = -1;
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isWhitespace(name.charAt(i)) && Character.isWhitespace(name.charAt(i - 1))) {
+                lastWordStart = i;
+            }
+        }
+        if (lastWordStart > 0) {
+            return (name.charAt(0) + "" + name.charAt(lastWordStart)).toUpperCase();
         }
-        return displayName.substring(0, 1).toUpperCase();
+        return name.substring(0, 1).toUpperCase();
     }
 
     /**
      * Mengambil daftar ID teman pengguna.
-     * @return salinan daftar ID teman
+     * Tidak disalin; untuk cek pertemanan dan daftar teman gunakan FriendGraph di DataStore.
+     * @return daftar ID teman yang tidak dapat diubah
      */
     public List<String> getFriendIds() {
-        return new ArrayList<>(friendIds);
+        return Collections.unmodifiableList(friendIds);
     }
 
     /**
@@ -146,7 +176,9 @@ public class User {
     }
 
     /**
-     * Memeriksa apakah pengguna tertentu adalah teman.
+     * Memeriksa apakah pengguna tertentu adalah teman dengan pencarian linear.
+     * Hanya untuk membangun data (load, addFriend, generator dataset); kode aplikasi
+     * memakai DataStore.areFriends yang dilayani FriendGraph.
      * @param userId ID pengguna yang dicek
      * @return true jika pengguna tersebut adalah teman
      */
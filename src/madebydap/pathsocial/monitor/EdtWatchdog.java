@@ -0,0 +1,340 @@
+package madebydap.pathsocial.monitor;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Watchdog opsional untuk Event Dispatch Thread.
+ * Memasang EventQueue yang mengukur waktu dispatch setiap event, merekam histogram
+ * per jenis event dan sumbernya, dan mengambil stack trace EDT saat satu event
+ * berjalan melebihi batas stall. Ringkasan histogram dan laporan stall ditulis
+ * ke ~/.pathsocial/logs/edt-watchdog.log oleh thread watchdog, bukan oleh EDT.
+ * 
+ * Diaktifkan dengan -Dpathsocial.edt.watchdog=true. Batas stall (default 250 ms)
+ * dan interval ringkasan (default 60 detik) diatur dengan
+ * -Dpathsocial.edt.stallMs dan -Dpathsocial.edt.summarySec.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class EdtWatchdog {
+
+    /** Property untuk mengaktifkan watchdog */
+    public static final String ENABLED_PROPERTY = "pathsocial.edt.watchdog";
+
+    /** Property batas stall dalam milidetik */
+    public static final String STALL_PROPERTY = "pathsocial.edt.stallMs";
+
+    /** Property interval ringkasan dalam detik */
+    public static final String SUMMARY_PROPERTY = "pathsocial.edt.summarySec";
+
+    /** Ukuran maksimal file log (1 MB) */
+    private static final long LOG_MAX_BYTES = 1024 * 1024;
+
+    /** Jumlah file log lama yang disimpan */
+    private static final int LOG_BACKUPS = 3;
+
+    /** Jumlah sumber event yang ditulis di setiap ringkasan */
+    private static final int SUMMARY_TOP = 15;
+
+    /** Kedalaman stack trace maksimal di laporan stall */
+    private static final int MAX_STACK_DEPTH = 40;
+
+    /** Format timestamp di log */
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    /** Instance singleton */
+    private static EdtWatchdog instance;
+
+    /** Batas stall dalam nanodetik */
+    private final long stallNanos;
+
+    /** Interval ringkasan dalam nanodetik */
+    private final long summaryNanos;
+
+    /** Histogram semua event */
+    private final LatencyHistogram overall = new LatencyHistogram();
+
+    /** Histogram per jenis event dan sumbernya */
+    private final Map<String, LatencyHistogram> bySource = new ConcurrentHashMap<>();
+
+    /** Baris log yang menunggu ditulis oleh thread watchdog */
+    private final ConcurrentLinkedQueue<String> pending = new ConcurrentLinkedQueue<>();
+
+    /** File log */
+    private final RollingLog log = new RollingLog("edt-watchdog.log", LOG_MAX_BYTES, LOG_BACKUPS);
+
+    /** Thread EDT yang sedang men-dispatch event */
+    private volatile Thread dispatchThread;
+
+    /** Waktu mulai dispatch yang sedang dipantau (nanoTime), 0 jika tidak ada */
+    private volatile long dispatchStart = 0;
+
+    /** Nomor urut dispatch, dipakai agar satu stall hanya dilaporkan sekali */
+    private volatile long dispatchSeq = 0;
+
+    /** Event yang sedang di-dispatch, dibaca watchdog saat stall */
+    private volatile AWTEvent dispatchEvent;
+
+    /** Apakah watchdog sudah terpasang */
+    private boolean installed = false;
+
+    /**
+     * Konstruktor private untuk singleton pattern.
+     */
+    private EdtWatchdog() {
+        stallNanos = Long.getLong(STALL_PROPERTY, 250L) * 1_000_000L;
+        summaryNanos = Long.getLong(SUMMARY_PROPERTY, 60L) * 1_000_000_000L;
+    }
+
+    /**
+     * Mengambil instance singleton EdtWatchdog.
+     * 
+     * @return instance EdtWatchdog
+     */
+    public static synchronized EdtWatchdog getInstance() {
+        if (instance == null) {
+            instance = new EdtWatchdog();
+        }
+        return instance;
+    }
+
+    /**
+     * Memeriksa apakah watchdog diaktifkan lewat system property.
+     * 
+     * @return true jika -Dpathsocial.edt.watchdog=true
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Memasang EventQueue pengukur dan memulai thread watchdog.
+     * Aman dipanggil lebih dari sekali dan dari thread mana pun.
+     */
+    public synchronized void install() {
+        if (installed) return;
+        installed = true;
+
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new TimingEventQueue());
+
+        Thread monitor = new Thread(this::monitorLoop, "EdtWatchdog");
+        monitor.setDaemon(true);
+        monitor.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            enqueueSummary();
+            drainPending();
+        }, "EdtWatchdog-shutdown"));
+
+        System.err.println("[EdtWatchdog] Installed, stall threshold " + stallNanos / 1_000_000
+            + " ms, logging to " + log.getFile());
+    }
+
+    /**
+     * Mengambil histogram semua event.
+     * 
+     * @return histogram latensi dispatch
+     */
+    public LatencyHistogram getOverallHistogram() {
+        return overall;
+    }
+
+    /**
+     * Mengambil histogram per jenis event dan sumbernya.
+     * 
+     * @return map dari kunci "JenisEvent@Sumber" ke histogram
+     */
+    public Map<String, LatencyHistogram> getSourceHistograms() {
+        return bySource;
+    }
+
+    /**
+     * EventQueue yang mengukur waktu dispatch setiap event.
+     */
+    private class TimingEventQueue extends EventQueue {
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            long start = System.nanoTime();
+            long seq = dispatchSeq + 1;
+            dispatchThread = Thread.currentThread();
+            dispatchEvent = event;
+            dispatchSeq = seq;
+            dispatchStart = start;
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                dispatchStart = 0;
+                dispatchEvent = null;
+                // A nested loop (modal dialog) ran inside this event; waiting on it is not a stall
+                if (dispatchSeq == seq) {
+                    record(event, System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    /**
+     * Merekam durasi satu dispatch ke histogram dan mencatat stall yang sudah selesai.
+     * 
+     * @param event event yang di-dispatch
+     * @param nanos durasi dispatch
+     */
+    private void record(AWTEvent event, long nanos) {
+        String key = keyOf(event);
+        overall.record(nanos);
+        bySource.computeIfAbsent(key, k -> new LatencyHistogram()).record(nanos);
+        if (nanos >= stallNanos) {
+            pending.add(timestamp() + " Stall ended after " + nanos / 1_000_000 + " ms in " + key + "\n");
+        }
+    }
+
+    /**
+     * Loop thread watchdog: memeriksa stall, menulis log, dan menulis ringkasan berkala.
+     */
+    private void monitorLoop() {
+        long pollMillis = Math.max(10, stallNanos / 4_000_000);
+        long lastReportedSeq = -1;
+        long nextSummary = System.nanoTime() + summaryNanos;
+
+        while (true) {
+            try {
+                Thread.sleep(pollMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            long start = dispatchStart;
+            long seq = dispatchSeq;
+            long now = System.nanoTime();
+            if (start != 0 && now - start >= stallNanos && seq != lastReportedSeq) {
+                lastReportedSeq = seq;
+                reportStall(now - start);
+            }
+
+            if (now >= nextSummary) {
+                nextSummary = now + summaryNanos;
+                enqueueSummary();
+            }
+            drainPending();
+        }
+    }
+
+    /**
+     * Mengambil stack trace EDT yang sedang stall dan menambahkannya ke log.
+     * 
+     * @param elapsedNanos lama dispatch sejauh ini
+     */
+    private void reportStall(long elapsedNanos) {
+        Thread edt = dispatchThread;
+        AWTEvent event = dispatchEvent;
+        if (edt == null) return;
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(timestamp()).append(" Stall: EDT blocked for ").append(elapsedNanos / 1_000_000)
+            .append(" ms in ").append(event != null ? keyOf(event) : "unknown").append('\n');
+        StackTraceElement[] stack = edt.getStackTrace();
+        int depth = Math.min(stack.length, MAX_STACK_DEPTH);
+        for (int i = 0; i < depth; i++) {
+            sb.append("    at ").append(stack[i]).append('\n');
+        }
+        if (stack.length > depth) {
+            sb.append("    ... ").append(stack.length - depth).append(" more\n");
+        }
+        pending.add(sb.toString());
+        System.err.println("[EdtWatchdog] EDT stalled for " + elapsedNanos / 1_000_000 + " ms, see " + log.getFile());
+    }
+
+    /**
+     * Menambahkan ringkasan histogram interval ini ke log lalu mengosongkan histogram.
+     */
+    private void enqueueSummary() {
+        if (overall.getCount() == 0) return;
+
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(bySource.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().getTotalNanos(), a.getValue().getTotalNanos()));
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(timestamp()).append(" Summary (dispatch latency, top sources by total time)\n");
+        appendRow(sb, "ALL", overall);
+        for (int i = 0; i < Math.min(SUMMARY_TOP, entries.size()); i++) {
+            appendRow(sb, entries.get(i).getKey(), entries.get(i).getValue());
+        }
+        pending.add(sb.toString());
+
+        overall.reset();
+        for (LatencyHistogram histogram : bySource.values()) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Menulis satu baris ringkasan histogram.
+     * 
+     * @param sb builder tujuan
+     * @param key nama sumber
+     * @param histogram histogram sumber
+     */
+    private static void appendRow(StringBuilder sb, String key, LatencyHistogram histogram) {
+        if (histogram.getCount() == 0) return;
+        sb.append(String.format("    %-48s n=%-7d mean=%7.2fms p50=%7.2fms p99=%7.2fms max=%8.2fms%n",
+            key, histogram.getCount(),
+            histogram.getMeanNanos() / 1e6,
+            histogram.getPercentileNanos(50) / 1e6,
+            histogram.getPercentileNanos(99) / 1e6,
+            histogram.getMaxNanos() / 1e6));
+    }
+
+    /**
+     * Menulis semua baris log yang menunggu.
+     */
+    private void drainPending() {
+        StringBuilder sb = new StringBuilder();
+        String line;
+        while ((line = pending.poll()) != null) {
+            sb.append(line);
+        }
+        if (sb.length() > 0) {
+            log.append(sb.toString());
+        }
+    }
+
+    /**
+     * Membuat kunci histogram dari jenis event dan sumbernya.
+     * 
+     * @param event event AWT
+     * @return kunci dengan format "JenisEvent@Sumber"
+     */
+    private static String keyOf(AWTEvent event) {
+        Object source = event.getSource();
+        return shortName(event.getClass()) + "@" + (source != null ? shortName(source.getClass()) : "null");
+    }
+
+    /**
+     * Mengambil nama kelas tanpa package (tetap berisi nama untuk kelas anonim).
+     * 
+     * @param type kelas
+     * @return nama pendek kelas
+     */
+    private static String shortName(Class<?> type) {
+        String name = type.getName();
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Membuat timestamp untuk baris log.
+     * 
+     * @return timestamp saat ini
+     */
+    private static String timestamp() {
+        return LocalDateTime.now().format(TIMESTAMP);
+    }
+}
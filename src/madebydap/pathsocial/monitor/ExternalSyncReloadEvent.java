@@ -0,0 +1,37 @@
+package madebydap.pathsocial.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event Java Flight Recorder saat DataStore memuat ulang data karena data.json
+ * diubah dari luar (misalnya oleh instance aplikasi lain).
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+@Name("pathsocial.ExternalSyncReload")
+@Label("External Sync Reload")
+@Category({"Path Social", "Data Store"})
+@Description("Muat ulang data setelah perubahan eksternal pada data.json")
+public class ExternalSyncReloadEvent extends Event {
+
+    /** Pemicu reload, misalnya "FileWatcher" */
+    @Label("Trigger")
+    public String trigger;
+
+    /** Selisih jumlah pengguna setelah reload */
+    @Label("User Delta")
+    public int userDelta;
+
+    /** Selisih jumlah moment setelah reload */
+    @Label("Moment Delta")
+    public int momentDelta;
+
+    /** Jumlah moment setelah reload */
+    @Label("Moments")
+    public int moments;
+}
@@ -0,0 +1,33 @@
+package madebydap.pathsocial.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event Java Flight Recorder untuk satu decode gambar moment.
+ * Durasi event mencakup pembacaan file dan decode dengan subsampling.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+@Name("pathsocial.ImageDecode")
+@Label("Image Decode")
+@Category({"Path Social", "UI"})
+@Description("Decode gambar moment untuk ditampilkan di MomentCard")
+public class ImageDecodeEvent extends Event {
+
+    /** Path file yang di-decode */
+    @Label("Path")
+    public String path;
+
+    /** Apakah yang di-decode adalah thumbnail hasil ingest */
+    @Label("Thumbnail")
+    public boolean thumbnail;
+
+    /** Jumlah pixel hasil decode (0 jika gagal) */
+    @Label("Pixels")
+    public long pixels;
+}
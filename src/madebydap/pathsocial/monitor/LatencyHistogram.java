@@ -0,0 +1,139 @@
+package madebydap.pathsocial.monitor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram latensi dengan bucket logaritmik (pangkat dua dalam mikrodetik).
+ * Bucket ke-i menampung nilai [2^i, 2^(i+1)) us, sehingga 32 bucket cukup
+ * untuk rentang 1 us sampai lebih dari satu jam dengan galat relatif maksimal 2x.
+ * Perekaman bebas lock dan aman dipanggil dari banyak thread.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+    /** Jumlah bucket */
+    private static final int BUCKET_COUNT = 32;
+
+    /** Jumlah sampel per bucket */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    /** Jumlah semua sampel */
+    private final AtomicLong count = new AtomicLong();
+
+    /** Total durasi semua sampel dalam nanodetik */
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    /** Durasi sampel terbesar dalam nanodetik */
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Merekam satu sampel latensi.
+     * 
+     * @param nanos durasi dalam nanodetik
+     */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets.incrementAndGet(bucketOf(nanos));
+        count.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Mengambil jumlah sampel.
+     * 
+     * @return jumlah sampel
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Mengambil total durasi semua sampel.
+     * 
+     * @return total durasi dalam nanodetik
+     */
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    /**
+     * Mengambil durasi sampel terbesar.
+     * 
+     * @return durasi maksimal dalam nanodetik
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Mengambil rata-rata durasi sampel.
+     * 
+     * @return rata-rata dalam nanodetik, 0 jika belum ada sampel
+     */
+    public long getMeanNanos() {
+        long n = count.get();
+        return n == 0 ? 0 : totalNanos.get() / n;
+    }
+
+    /**
+     * Memperkirakan persentil dari bucket. Nilai yang dikembalikan adalah batas atas
+     * bucket tempat persentil jatuh, dibatasi oleh durasi maksimal yang pernah direkam.
+     * 
+     * @param percentile persentil antara 0 dan 100
+     * @return perkiraan durasi dalam nanodetik, 0 jika belum ada sampel
+     */
+    public long getPercentileNanos(double percentile) {
+        long n = count.get();
+        if (n == 0) return 0;
+
+        long target = Math.max(1, (long) Math.ceil(n * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return Math.min(upperBoundNanos(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /**
+     * Mengosongkan semua sampel.
+     * Sampel yang direkam bersamaan dengan reset bisa hilang sebagian; cukup untuk
+     * ringkasan per interval.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        totalNanos.set(0);
+        maxNanos.set(0);
+    }
+
+    /**
+     * Menghitung indeks bucket untuk suatu durasi.
+     * 
+     * @param nanos durasi dalam nanodetik
+     * @return indeks bucket
+     */
+    private static int bucketOf(long nanos) {
+        long micros = nanos / 1000;
+        if (micros <= 0) return 0;
+        return Math.min(BUCKET_COUNT - 1, 63 - Long.numberOfLeadingZeros(micros));
+    }
+
+    /**
+     * Menghitung batas atas bucket.
+     * 
+     * @param bucket indeks bucket
+     * @return batas atas dalam nanodetik
+     */
+    private static long upperBoundNanos(int bucket) {
+        return (2L << bucket) * 1000;
+    }
+}
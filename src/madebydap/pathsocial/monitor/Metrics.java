@@ -0,0 +1,250 @@
+package madebydap.pathsocial.monitor;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry metrik ringan di dalam proses: counter (LongAdder), gauge, dan histogram
+ * latensi (LatencyHistogram). Metrik dibuat saat pertama kali dipakai berdasarkan nama,
+ * misalnya "store.login" atau "persistence.save".
+ * 
+ * Diaktifkan dengan -Dpathsocial.metrics=true. Saat tidak aktif, method static
+ * start/stop/increment/add hanya memeriksa konstanta ENABLED sehingga JIT
+ * menghapus pemanggilannya dan biayanya praktis nol. Saat aktif, install() menulis
+ * snapshot semua metrik ke ~/.pathsocial/logs/metrics.log setiap
+ * -Dpathsocial.metrics.dumpSec detik (default 60) dan sekali lagi saat aplikasi keluar.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class Metrics {
+
+    /** Property untuk mengaktifkan metrik */
+    public static final String ENABLED_PROPERTY = "pathsocial.metrics";
+
+    /** Property interval dump dalam detik */
+    public static final String DUMP_PROPERTY = "pathsocial.metrics.dumpSec";
+
+    /** Apakah metrik aktif; konstan selama proses berjalan */
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /** Ukuran maksimal file log (1 MB) */
+    private static final long LOG_MAX_BYTES = 1024 * 1024;
+
+    /** Jumlah file log lama yang disimpan */
+    private static final int LOG_BACKUPS = 3;
+
+    /** Format timestamp di log */
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    /** Instance singleton */
+    private static Metrics instance;
+
+    /** Counter dengan nama sebagai key */
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /** Gauge dengan nama sebagai key */
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    /** Histogram latensi dengan nama sebagai key */
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /** Apakah thread dump sudah dimulai */
+    private boolean installed = false;
+
+    /**
+     * Konstruktor private untuk singleton pattern.
+     */
+    private Metrics() {
+    }
+
+    /**
+     * Mengambil instance singleton Metrics.
+     * 
+     * @return instance Metrics
+     */
+    public static synchronized Metrics getInstance() {
+        if (instance == null) {
+            instance = new Metrics();
+        }
+        return instance;
+    }
+
+    // ==================== Perekaman ====================
+
+    /**
+     * Mengambil waktu mulai untuk pengukuran latensi.
+     * 
+     * @return System.nanoTime(), atau 0 jika metrik tidak aktif
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Merekam latensi sejak waktu mulai ke histogram dengan nama tertentu.
+     * 
+     * @param name nama histogram
+     * @param start nilai dari start()
+     */
+    public static void stop(String name, long start) {
+        if (ENABLED) {
+            getInstance().histogram(name).record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Menaikkan counter sebesar satu.
+     * 
+     * @param name nama counter
+     */
+    public static void increment(String name) {
+        if (ENABLED) {
+            getInstance().counter(name).increment();
+        }
+    }
+
+    /**
+     * Menambahkan nilai ke counter.
+     * 
+     * @param name nama counter
+     * @param delta nilai yang ditambahkan
+     */
+    public static void add(String name, long delta) {
+        if (ENABLED) {
+            getInstance().counter(name).add(delta);
+        }
+    }
+
+    /**
+     * Mendaftarkan gauge yang nilainya dibaca saat snapshot.
+     * Gauge dengan nama yang sama menggantikan yang lama.
+     * 
+     * @param name nama gauge
+     * @param supplier sumber nilai gauge; harus murah dan aman dipanggil dari thread lain
+     */
+    public static void gauge(String name, LongSupplier supplier) {
+        if (ENABLED) {
+            getInstance().gauges.put(name, supplier);
+        }
+    }
+
+    /**
+     * Mengambil atau membuat counter.
+     * 
+     * @param name nama counter
+     * @return counter
+     */
+    public LongAdder counter(String name) {
+        LongAdder counter = counters.get(name);
+        return counter != null ? counter : counters.computeIfAbsent(name, k -> new LongAdder());
+    }
+
+    /**
+     * Mengambil atau membuat histogram latensi.
+     * 
+     * @param name nama histogram
+     * @return histogram
+     */
+    public LatencyHistogram histogram(String name) {
+        LatencyHistogram histogram = histograms.get(name);
+        return histogram != null ? histogram : histograms.computeIfAbsent(name, k -> new LatencyHistogram());
+    }
+
+    // ==================== Query ====================
+
+    /**
+     * Mengambil nilai semua counter.
+     * 
+     * @return nilai counter dengan nama sebagai key, terurut
+     */
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        return values;
+    }
+
+    /**
+     * Membaca nilai semua gauge.
+     * 
+     * @return nilai gauge dengan nama sebagai key, terurut
+     */
+    public Map<String, Long> getGauges() {
+        Map<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        return values;
+    }
+
+    /**
+     * Mengambil semua histogram latensi.
+     * 
+     * @return histogram dengan nama sebagai key, terurut
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    /**
+     * Membuat snapshot teks semua metrik.
+     * 
+     * @return snapshot yang siap ditulis ke log
+     */
+    public String snapshot() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(LocalDateTime.now().format(TIMESTAMP)).append(" Metrics\n");
+        for (Map.Entry<String, Long> entry : getCounters().entrySet()) {
+            sb.append(String.format("    counter   %-40s %,d%n", entry.getKey(), entry.getValue()));
+        }
+        for (Map.Entry<String, Long> entry : getGauges().entrySet()) {
+            sb.append(String.format("    gauge     %-40s %,d%n", entry.getKey(), entry.getValue()));
+        }
+        for (Map.Entry<String, LatencyHistogram> entry : getHistograms().entrySet()) {
+            LatencyHistogram h = entry.getValue();
+            if (h.getCount() == 0) continue;
+            sb.append(String.format("    histogram %-40s n=%-8d mean=%8.3fms p50=%8.3fms p99=%8.3fms max=%9.3fms%n",
+                entry.getKey(), h.getCount(),
+                h.getMeanNanos() / 1e6,
+                h.getPercentileNanos(50) / 1e6,
+                h.getPercentileNanos(99) / 1e6,
+                h.getMaxNanos() / 1e6));
+        }
+        return sb.toString();
+    }
+
+    // ==================== Dump berkala ====================
+
+    /**
+     * Memulai thread yang menulis snapshot ke metrics.log secara berkala,
+     * plus satu snapshot terakhir saat aplikasi keluar.
+     * Tidak melakukan apa pun jika metrik tidak aktif. Aman dipanggil lebih dari sekali.
+     */
+    public synchronized void install() {
+        if (!ENABLED || installed) return;
+        installed = true;
+
+        RollingLog log = new RollingLog("metrics.log", LOG_MAX_BYTES, LOG_BACKUPS);
+        long intervalMillis = Math.max(1, Long.getLong(DUMP_PROPERTY, 60L)) * 1000L;
+
+        Thread dumper = new Thread(() -> {
+            while (true) {
+                try {
+                    Thread.sleep(intervalMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                log.append(snapshot());
+            }
+        }, "MetricsDumper");
+        dumper.setDaemon(true);
+        dumper.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> log.append(snapshot()), "MetricsDumper-shutdown"));
+
+        System.err.println("[Metrics] Enabled, dumping every " + intervalMillis / 1000 + " s to " + log.getFile());
+    }
+}
@@ -0,0 +1,39 @@
+package madebydap.pathsocial.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event Java Flight Recorder untuk satu PersistenceManager.load.
+ * Durasi event mencakup pembacaan file dan parsing JSON.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+@Name("pathsocial.PersistenceLoad")
+@Label("Persistence Load")
+@Category({"Path Social", "Persistence"})
+@Description("Pembacaan dan parsing data.json")
+public class PersistenceLoadEvent extends Event {
+
+    /** Ukuran data.json yang dibaca */
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    /** Jumlah pengguna yang dimuat */
+    @Label("Users")
+    public int users;
+
+    /** Jumlah moment yang dimuat */
+    @Label("Moments")
+    public int moments;
+
+    /** Apakah pembacaan berhasil */
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,39 @@
+package madebydap.pathsocial.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event Java Flight Recorder untuk satu PersistenceManager.save.
+ * Durasi event mencakup serialisasi JSON dan penulisan file.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+@Name("pathsocial.PersistenceSave")
+@Label("Persistence Save")
+@Category({"Path Social", "Persistence"})
+@Description("Serialisasi dan penulisan data.json")
+public class PersistenceSaveEvent extends Event {
+
+    /** Ukuran data.json yang ditulis */
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    /** Jumlah pengguna yang disimpan */
+    @Label("Users")
+    public int users;
+
+    /** Jumlah moment yang disimpan */
+    @Label("Moments")
+    public int moments;
+
+    /** Apakah penulisan berhasil */
+    @Label("Succeeded")
+    public boolean succeeded;
+}
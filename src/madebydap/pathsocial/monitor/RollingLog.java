@@ -0,0 +1,102 @@
+package madebydap.pathsocial.monitor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * File log sederhana yang berputar berdasarkan ukuran.
+ * Saat file melebihi batas ukuran, file lama digeser menjadi name.1, name.2, dst.
+ * dan file paling tua dihapus. Log disimpan di ~/.pathsocial/logs.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class RollingLog {
+
+    /** Nama folder log */
+    private static final String LOGS_DIR = "logs";
+
+    /** Path file log aktif */
+    private final Path file;
+
+    /** Ukuran maksimal file log sebelum diputar */
+    private final long maxBytes;
+
+    /** Jumlah file lama yang disimpan */
+    private final int backups;
+
+    /**
+     * Konstruktor RollingLog di folder log aplikasi.
+     * 
+     * @param fileName nama file log
+     * @param maxBytes ukuran maksimal file sebelum diputar
+     * @param backups jumlah file lama yang disimpan
+     */
+    public RollingLog(String fileName, long maxBytes, int backups) {
+        this.file = Paths.get(System.getProperty("user.home"), ".pathsocial", LOGS_DIR, fileName);
+        this.maxBytes = maxBytes;
+        this.backups = backups;
+    }
+
+    /**
+     * Mengambil path file log aktif.
+     * 
+     * @return path file log
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Menambahkan teks ke file log, memutar file terlebih dahulu jika sudah penuh.
+     * 
+     * @param text teks yang ditambahkan (termasuk baris baru)
+     */
+    public synchronized void append(String text) {
+        try {
+            Files.createDirectories(file.getParent());
+            if (Files.exists(file) && Files.size(file) >= maxBytes) {
+                roll();
+            }
+            Files.write(file, text.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("[RollingLog] Failed to write " + file.getFileName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Menggeser file log lama dan menghapus yang paling tua.
+     * 
+     * @throws IOException jika file gagal dipindahkan
+     */
+    private void roll() throws IOException {
+        Files.deleteIfExists(backup(backups));
+        for (int i = backups - 1; i >= 1; i--) {
+            Path older = backup(i);
+            if (Files.exists(older)) {
+                Files.move(older, backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (backups > 0) {
+            Files.move(file, backup(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Mengambil path file lama ke-n.
+     * 
+     * @param index nomor file lama
+     * @return path file lama
+     */
+    private Path backup(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+}
@@ -0,0 +1,37 @@
+package madebydap.pathsocial.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event Java Flight Recorder untuk satu pembangunan timeline di DataStore
+ * (cache miss). Durasi event mencakup pemindaian moment dan pengurutan hasil.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+@Name("pathsocial.TimelineBuild")
+@Label("Timeline Build")
+@Category({"Path Social", "Data Store"})
+@Description("Pemindaian moment untuk membangun timeline pengguna")
+public class TimelineBuildEvent extends Event {
+
+    /** ID pengguna pemilik timeline */
+    @Label("User Id")
+    public String userId;
+
+    /** Jumlah teman pengguna */
+    @Label("Friends")
+    public int friends;
+
+    /** Jumlah moment yang dipindai */
+    @Label("Moments Scanned")
+    public int scanned;
+
+    /** Jumlah moment di timeline hasil */
+    @Label("Moments Returned")
+    public int returned;
+}
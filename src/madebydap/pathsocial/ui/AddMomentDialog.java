@@ -1,22 +1,29 @@
 package madebydap.pathsocial.ui;
 
 import madebydap.pathsocial.data.DataStore;
+import madebydap.pathsocial.data.PhotoIngest;
 import madebydap.pathsocial.model.Moment;
 import madebydap.pathsocial.model.MomentType;
+import madebydap.pathsocial.ui.components.ImageCache;
+import madebydap.pathsocial.ui.components.ImageScaler;
 import madebydap.pathsocial.ui.style.PathColors;
 import madebydap.pathsocial.ui.style.PathFonts;
 import madebydap.pathsocial.ui.style.PathIcons;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Dialog untuk membuat moment baru.
- * Mendukung pemilihan gambar untuk moment tipe PHOTO.
+ * Mendukung pemilihan gambar untuk moment tipe PHOTO. Gambar divalidasi dan
+ * di-decode di background dengan progress bar. Moment PHOTO langsung tampil di
+ * timeline sementara penyalinan gambar berjalan di background, dan dihapus lagi
+ * jika penyalinan gagal.
  * 
  * @author madebydap
  * @version 1.0
@@ -32,12 +39,27 @@ public class AddMomentDialog extends JDialog {
     /** Label preview gambar */
     private JLabel imagePreview;
     
-    /** Path gambar yang dipilih */
+    /** Path gambar yang dipilih (diisi setelah gambar lolos validasi) */
     private String selectedImagePath;
+
+    /** Progress bar persiapan gambar */
+    private JProgressBar ingestProgress;
+
+    /** Worker persiapan gambar yang sedang berjalan */
+    private SwingWorker<BufferedImage, PhotoIngest.Probe> prepareWorker;
+
+    /** Lebar maksimal preview gambar */
+    private static final int PREVIEW_WIDTH = 320;
+
+    /** Tinggi maksimal preview gambar */
+    private static final int PREVIEW_HEIGHT = 140;
     
     /** Flag apakah dialog dikonfirmasi */
     private boolean confirmed = false;
 
+    /** Proses penyimpanan moment yang dibuat dialog ini */
+    private CompletableFuture<?> commit = CompletableFuture.completedFuture(null);
+
     /**
      * Konstruktor AddMomentDialog.
      * 
@@ -157,6 +179,12 @@ public class AddMomentDialog extends JDialog {
             }
         });
         imagePanel.add(imagePreview, BorderLayout.CENTER);
+
+        ingestProgress = new JProgressBar(0, 100);
+        ingestProgress.setStringPainted(true);
+        ingestProgress.setFont(PathFonts.SMALL);
+        ingestProgress.setVisible(false);
+        imagePanel.add(ingestProgress, BorderLayout.SOUTH);
         return imagePanel;
     }
 
@@ -169,26 +197,71 @@ public class AddMomentDialog extends JDialog {
         chooser.setFileFilter(new FileNameExtensionFilter("Images", "jpg", "jpeg", "png", "gif", "bmp"));
         
         if (chooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
-            File file = chooser.getSelectedFile();
-            selectedImagePath = file.getAbsolutePath();
-            
-            try {
-                BufferedImage img = ImageIO.read(file);
-                if (img != null) {
-                    int maxWidth = 320;
-                    int maxHeight = 140;
-                    double scale = Math.min((double) maxWidth / img.getWidth(), (double) maxHeight / img.getHeight());
-                    int newWidth = (int) (img.getWidth() * scale);
-                    int newHeight = (int) (img.getHeight() * scale);
-                    
-                    Image scaled = img.getScaledInstance(newWidth, newHeight, Image.SCALE_SMOOTH);
-                    imagePreview.setIcon(new ImageIcon(scaled));
+            prepareImage(chooser.getSelectedFile());
+        }
+    }
+
+    /**
+     * Menyiapkan gambar terpilih di background: probe header, decode ke ukuran tampilan,
+     * lalu downscale untuk preview. Gambar bisa langsung dibagikan setelah lolos probe.
+     * 
+     * @param file file gambar terpilih
+     */
+    private void prepareImage(File file) {
+        if (prepareWorker != null) {
+            prepareWorker.cancel(true);
+        }
+        selectedImagePath = null;
+        imagePreview.setIcon(null);
+        imagePreview.setText("Loading image...");
+        ingestProgress.setValue(0);
+        ingestProgress.setString("Checking image...");
+        ingestProgress.setVisible(true);
+
+        prepareWorker = new SwingWorker<BufferedImage, PhotoIngest.Probe>() {
+            @Override
+            protected BufferedImage doInBackground() throws Exception {
+                PhotoIngest.Probe probe = PhotoIngest.probe(file);
+                publish(probe);
+                setProgress(20);
+
+                BufferedImage display = ImageCache.getInstance().decodeForDisplay(file);
+                setProgress(80);
+                if (isCancelled()) return null;
+
+                BufferedImage preview = ImageScaler.scaleToFit(display, PREVIEW_WIDTH, PREVIEW_HEIGHT);
+                setProgress(100);
+                return preview;
+            }
+
+            @Override
+            protected void process(List<PhotoIngest.Probe> probes) {
+                if (isCancelled()) return;
+                PhotoIngest.Probe probe = probes.get(probes.size() - 1);
+                selectedImagePath = file.getAbsolutePath();
+                ingestProgress.setString("Decoding " + probe.getWidth() + " x " + probe.getHeight() + "...");
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) return;
+                ingestProgress.setVisible(false);
+                try {
+                    imagePreview.setIcon(new ImageIcon(get()));
                     imagePreview.setText("");
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    selectedImagePath = null;
+                    imagePreview.setText("Error loading image: " + cause.getMessage());
                 }
-            } catch (Exception ex) {
-                imagePreview.setText("Error loading image");
             }
-        }
+        };
+        prepareWorker.addPropertyChangeListener(evt -> {
+            if ("progress".equals(evt.getPropertyName())) {
+                ingestProgress.setValue((Integer) evt.getNewValue());
+            }
+        });
+        prepareWorker.execute();
     }
 
     /**
@@ -244,7 +317,10 @@ public class AddMomentDialog extends JDialog {
         
         if (momentType == MomentType.PHOTO) {
             if (selectedImagePath == null || selectedImagePath.isEmpty()) {
-                JOptionPane.showMessageDialog(this, "Please select an image", "Image Required", JOptionPane.WARNING_MESSAGE);
+                String message = prepareWorker != null && !prepareWorker.isDone()
+                    ? "Please wait while the image is checked"
+                    : "Please select an image";
+                JOptionPane.showMessageDialog(this, message, "Image Required", JOptionPane.WARNING_MESSAGE);
                 return;
             }
             if (content.isEmpty()) {
@@ -259,7 +335,26 @@ public class AddMomentDialog extends JDialog {
 
         DataStore dataStore = DataStore.getInstance();
         Moment moment = new Moment(dataStore.getCurrentUser().getId(), momentType, content, selectedImagePath);
-        dataStore.addMoment(moment);
+        if (moment.hasImage()) {
+            // Shown right away; saved once its image is copied into the app folder
+            String sourcePath = moment.getImagePath();
+            BufferedImage display = ImageCache.getInstance().peek(sourcePath);
+            Window owner = getOwner();
+            commit = PhotoIngest.commitAsync(dataStore, moment, display).whenComplete((saved, error) -> {
+                if (error == null) {
+                    if (display != null) {
+                        ImageCache.getInstance().put(saved.getImagePath(), display);
+                    }
+                    return;
+                }
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(owner,
+                    "Your photo could not be saved: " + cause.getMessage(),
+                    "Photo Not Saved", JOptionPane.ERROR_MESSAGE));
+            });
+        } else {
+            dataStore.addMoment(moment);
+        }
 
         confirmed = true;
         dispose();
@@ -273,4 +368,15 @@ public class AddMomentDialog extends JDialog {
     public boolean isConfirmed() {
         return confirmed;
     }
+
+    /**
+     * Mengambil proses penyimpanan moment.
+     * Untuk moment PHOTO, selesai setelah gambar disalin dan moment tersimpan, atau
+     * gagal setelah moment pending dihapus; untuk moment lain sudah selesai saat dialog ditutup.
+     * 
+     * @return future penyimpanan moment
+     */
+    public CompletableFuture<?> getCommit() {
+        return commit;
+    }
 }
@@ -1,18 +1,36 @@
 package madebydap.pathsocial.ui;
 
+import madebydap.pathsocial.data.DataStore;
+import madebydap.pathsocial.model.User;
+import madebydap.pathsocial.monitor.Metrics;
 import madebydap.pathsocial.ui.style.PathColors;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.Objects;
 
 /**
  * Abstract class yang menjadi parent dari semua panel konten di Path Social.
  * Menyediakan template method untuk inisialisasi UI dan mengimplementasikan Refreshable.
+ * Menyimpan versi data yang terakhir ditampilkan sehingga refresh bisa dilewati
+ * jika data di DataStore belum berubah.
  * 
  * @author madebydap
  * @version 1.0
  */
 public abstract class BasePanel extends JPanel implements Refreshable {
+
+    /**
+     * Versi data yang terakhir ditampilkan panel (-1 berarti perlu refresh).
+     * Volatile karena isStale bisa dipanggil dari thread auto-refresh.
+     */
+    private volatile long renderedVersion = -1;
+
+    /** ID pengguna yang datanya terakhir ditampilkan panel */
+    private volatile String renderedUserId;
+
+    /** Nama histogram Metrics untuk waktu refresh panel ini */
+    private final String refreshMetric = "ui." + getClass().getSimpleName() + ".refresh";
     
     /**
      * Konstruktor BasePanel.
@@ -37,4 +55,74 @@ public abstract class BasePanel extends JPanel implements Refreshable {
      * @return JPanel header
      */
     protected abstract JPanel createHeader();
+
+    /**
+     * Merefresh panel hanya jika data berubah sejak terakhir ditampilkan.
+     */
+    public void refreshIfStale() {
+        if (isStale()) {
+            refreshTimed();
+        }
+    }
+
+    /**
+     * Merefresh panel sekarang dan merekam durasinya ke Metrics.
+     * Dipakai sebagai pengganti pemanggilan refresh() langsung di dalam UI.
+     */
+    protected void refreshTimed() {
+        long start = Metrics.start();
+        refresh();
+        Metrics.stop(refreshMetric, start);
+    }
+
+    /**
+     * Menandai panel agar di-refresh pada pemanggilan refreshIfStale berikutnya.
+     */
+    public void markDirty() {
+        renderedVersion = -1;
+    }
+
+    /**
+     * Memeriksa apakah data yang ditampilkan sudah usang.
+     * Hanya membandingkan pengguna dan versi data, O(1).
+     * 
+     * @return true jika panel perlu di-refresh
+     */
+    protected boolean isStale() {
+        String userId = getCurrentUserId();
+        return !Objects.equals(userId, renderedUserId) || getDataVersion(userId) != renderedVersion;
+    }
+
+    /**
+     * Mencatat versi data saat ini sebagai versi yang ditampilkan.
+     * Dipanggil oleh subclass di awal refresh().
+     */
+    protected void markRendered() {
+        String userId = getCurrentUserId();
+        renderedUserId = userId;
+        renderedVersion = getDataVersion(userId);
+    }
+
+    /**
+     * Mengambil versi data yang menjadi dasar tampilan panel.
+     * Secara default menggunakan versi timeline pengguna, yang naik saat moment
+     * pengguna/temannya atau daftar temannya berubah.
+     * 
+     * @param userId ID pengguna yang sedang login (bisa null)
+     * @return versi data
+     */
+    protected long getDataVersion(String userId) {
+        DataStore dataStore = DataStore.getInstance();
+        return userId != null ? dataStore.getTimelineVersion(userId) : dataStore.getVersion();
+    }
+
+    /**
+     * Mengambil ID pengguna yang sedang login.
+     * 
+     * @return ID pengguna, atau null jika belum login
+     */
+    private String getCurrentUserId() {
+        User user = DataStore.getInstance().getCurrentUser();
+        return user != null ? user.getId() : null;
+    }
 }
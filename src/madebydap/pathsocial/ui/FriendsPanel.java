@@ -1,17 +1,29 @@
 package madebydap.pathsocial.ui;
 
 import madebydap.pathsocial.data.DataStore;
+import madebydap.pathsocial.data.FriendSuggestions;
 import madebydap.pathsocial.model.User;
+import madebydap.pathsocial.ui.components.AvatarRenderer;
 import madebydap.pathsocial.ui.style.PathColors;
 import madebydap.pathsocial.ui.style.PathFonts;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Panel daftar teman dengan fitur pencarian dan penambahan teman.
- * Menampilkan daftar teman dan hasil pencarian pengguna.
+ * Menampilkan daftar teman, hasil pencarian pengguna, dan saran teman
+ * ("People you may know") berdasarkan jumlah teman bersama.
+ * Pencarian berjalan otomatis saat mengetik (dengan debounce) di thread background,
+ * dan hasilnya ditampilkan menggunakan baris yang dipakai ulang.
  * 
  * @author madebydap
  * @version 1.0
@@ -20,6 +32,24 @@ public class FriendsPanel extends BasePanel {
     
     /** Container daftar teman */
     private JPanel friendsContainer;
+
+    /** Baris daftar teman yang dipakai ulang */
+    private List<UserRow> friendRowPool;
+
+    /** Panel yang ditampilkan saat belum punya teman */
+    private JPanel noFriendsPanel;
+
+    /** Jarak di bawah daftar teman agar tidak tertutup tombol tambah moment */
+    private Component friendsBottomSpacer;
+
+    /** Section saran teman, disembunyikan saat tidak ada saran */
+    private JPanel suggestionsSection;
+
+    /** Container baris saran teman */
+    private JPanel suggestionsContainer;
+
+    /** Baris saran teman yang dipakai ulang */
+    private List<UserRow> suggestionRowPool;
     
     /** Field pencarian */
     private JTextField searchField;
@@ -27,6 +57,36 @@ public class FriendsPanel extends BasePanel {
     /** Panel hasil pencarian */
     private JPanel searchResultsPanel;
 
+    /** Baris hasil pencarian yang dipakai ulang */
+    private List<UserRow> resultRowPool;
+
+    /** Label yang ditampilkan saat pencarian tidak menemukan hasil */
+    private JLabel noResultsLabel;
+
+    /** Timer debounce untuk pencarian saat mengetik */
+    private Timer searchDebounceTimer;
+
+    /** Executor untuk menjalankan pencarian di background */
+    private ExecutorService searchExecutor;
+
+    /** Pencarian yang sedang berjalan */
+    private Future<?> pendingSearch;
+
+    /** Nomor urut pencarian terakhir, untuk membuang hasil yang sudah usang */
+    private int searchSequence;
+
+    /** Jeda debounce pencarian dalam milidetik */
+    private static final int SEARCH_DEBOUNCE_MS = 250;
+
+    /** Jumlah hasil pencarian maksimal yang ditampilkan */
+    private static final int MAX_SEARCH_RESULTS = 50;
+
+    /** Jumlah saran teman maksimal yang ditampilkan */
+    private static final int MAX_SUGGESTIONS = 5;
+
+    /** ID pengguna yang daftar temannya sedang ditampilkan */
+    private String shownUserId;
+
     /**
      * Konstruktor FriendsPanel.
      */
@@ -46,6 +106,7 @@ public class FriendsPanel extends BasePanel {
         content.setBackground(PathColors.BACKGROUND);
 
         content.add(createSearchSection());
+        content.add(createSuggestionsSection());
 
         JPanel sectionHeader = new JPanel(new FlowLayout(FlowLayout.LEFT, 16, 12));
         sectionHeader.setBackground(PathColors.BACKGROUND);
@@ -62,6 +123,17 @@ public class FriendsPanel extends BasePanel {
         friendsContainer.setBackground(PathColors.BACKGROUND_WHITE);
         content.add(friendsContainer);
 
+        friendRowPool = new ArrayList<>();
+        noFriendsPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        noFriendsPanel.setOpaque(false);
+        noFriendsPanel.setBorder(BorderFactory.createEmptyBorder(20, 0, 20, 0));
+
+        JLabel emptyLabel = new JLabel("No friends yet");
+        emptyLabel.setFont(PathFonts.BODY);
+        emptyLabel.setForeground(PathColors.TEXT_MUTED);
+        noFriendsPanel.add(emptyLabel);
+        friendsBottomSpacer = Box.createVerticalStrut(80);
+
         JScrollPane scrollPane = new JScrollPane(content);
         scrollPane.setBorder(null);
         scrollPane.getVerticalScrollBar().setUnitIncrement(16);
@@ -84,7 +156,7 @@ public class FriendsPanel extends BasePanel {
         ));
 
         JLabel logoLabel = new JLabel("path");
-        logoLabel.setFont(new Font("Georgia", Font.ITALIC, 32));
+        logoLabel.setFont(PathFonts.LOGO);
         logoLabel.setForeground(PathColors.PRIMARY);
         logoLabel.setHorizontalAlignment(SwingConstants.CENTER);
         header.add(logoLabel, BorderLayout.CENTER);
@@ -126,8 +198,27 @@ public class FriendsPanel extends BasePanel {
             BorderFactory.createEmptyBorder(8, 12, 8, 12)
         ));
         searchField.addActionListener(e -> performSearch());
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                searchDebounceTimer.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                searchDebounceTimer.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                searchDebounceTimer.restart();
+            }
+        });
         searchPanel.add(searchField, BorderLayout.CENTER);
 
+        searchDebounceTimer = new Timer(SEARCH_DEBOUNCE_MS, e -> performSearch());
+        searchDebounceTimer.setRepeats(false);
+
         JButton searchBtn = createSearchButton();
         searchPanel.add(searchBtn, BorderLayout.EAST);
 
@@ -140,9 +231,46 @@ public class FriendsPanel extends BasePanel {
         searchResultsPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
         section.add(searchResultsPanel);
 
+        resultRowPool = new ArrayList<>();
+        noResultsLabel = new JLabel("No users found");
+        noResultsLabel.setFont(PathFonts.SMALL);
+        noResultsLabel.setForeground(PathColors.TEXT_MUTED);
+
         return section;
     }
 
+    /**
+     * Membuat section saran teman ("People you may know").
+     * 
+     * @return JPanel section saran teman
+     */
+    private JPanel createSuggestionsSection() {
+        suggestionsSection = new JPanel();
+        suggestionsSection.setLayout(new BoxLayout(suggestionsSection, BoxLayout.Y_AXIS));
+        suggestionsSection.setBackground(PathColors.BACKGROUND_WHITE);
+        suggestionsSection.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createMatteBorder(0, 0, 1, 0, PathColors.DIVIDER),
+            BorderFactory.createEmptyBorder(16, 16, 8, 16)
+        ));
+
+        JLabel suggestionsLabel = new JLabel("People You May Know");
+        suggestionsLabel.setFont(PathFonts.SMALL_BOLD);
+        suggestionsLabel.setForeground(PathColors.TEXT_MUTED);
+        suggestionsLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        suggestionsSection.add(suggestionsLabel);
+        suggestionsSection.add(Box.createVerticalStrut(4));
+
+        suggestionsContainer = new JPanel();
+        suggestionsContainer.setLayout(new BoxLayout(suggestionsContainer, BoxLayout.Y_AXIS));
+        suggestionsContainer.setOpaque(false);
+        suggestionsContainer.setAlignmentX(Component.LEFT_ALIGNMENT);
+        suggestionsSection.add(suggestionsContainer);
+
+        suggestionRowPool = new ArrayList<>();
+        suggestionsSection.setVisible(false);
+        return suggestionsSection;
+    }
+
     /**
      * Membuat tombol search dengan style custom.
      * 
@@ -174,29 +302,73 @@ public class FriendsPanel extends BasePanel {
 
     /**
      * Melakukan pencarian pengguna berdasarkan kata kunci.
+     * Pencarian dijalankan di thread background; pencarian sebelumnya yang belum
+     * selesai dibatalkan dan hasilnya diabaikan.
      */
     private void performSearch() {
+        searchDebounceTimer.stop();
         String query = searchField.getText().trim();
-        searchResultsPanel.removeAll();
+        int sequence = ++searchSequence;
+
+        if (pendingSearch != null) {
+            pendingSearch.cancel(true);
+            pendingSearch = null;
+        }
 
         if (query.isEmpty()) {
-            searchResultsPanel.revalidate();
-            searchResultsPanel.repaint();
+            showSearchResults(null);
             return;
         }
 
-        List<User> results = DataStore.getInstance().searchUsers(query);
-        User currentUser = DataStore.getInstance().getCurrentUser();
+        pendingSearch = getSearchExecutor().submit(() -> {
+            List<User> results = DataStore.getInstance().searchUsers(query, MAX_SEARCH_RESULTS);
+            if (Thread.currentThread().isInterrupted()) return;
 
-        if (results.isEmpty()) {
-            JLabel noResults = new JLabel("No users found");
-            noResults.setFont(PathFonts.SMALL);
-            noResults.setForeground(PathColors.TEXT_MUTED);
-            searchResultsPanel.add(noResults);
-        } else {
-            for (User user : results) {
-                boolean isFriend = currentUser.isFriend(user.getId());
-                searchResultsPanel.add(createUserRow(user, isFriend, true));
+            SwingUtilities.invokeLater(() -> {
+                if (sequence == searchSequence) {
+                    showSearchResults(results);
+                }
+            });
+        });
+    }
+
+    /**
+     * Mengambil executor pencarian, membuatnya jika belum ada.
+     * 
+     * @return executor untuk pencarian background
+     */
+    private ExecutorService getSearchExecutor() {
+        if (searchExecutor == null) {
+            searchExecutor = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "FriendSearch");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return searchExecutor;
+    }
+
+    /**
+     * Menampilkan hasil pencarian menggunakan baris dari pool.
+     * 
+     * @param results daftar pengguna hasil pencarian, atau null untuk mengosongkan
+     */
+    private void showSearchResults(List<User> results) {
+        searchResultsPanel.removeAll();
+
+        if (results != null && results.isEmpty()) {
+            searchResultsPanel.add(noResultsLabel);
+        } else if (results != null) {
+            DataStore store = DataStore.getInstance();
+            User currentUser = store.getCurrentUser();
+            for (int i = 0; i < results.size(); i++) {
+                if (i == resultRowPool.size()) {
+                    resultRowPool.add(new UserRow(true));
+                }
+                User user = results.get(i);
+                UserRow row = resultRowPool.get(i);
+                row.bind(user, currentUser != null && store.areFriends(currentUser.getId(), user.getId()));
+                searchResultsPanel.add(row);
             }
         }
 
@@ -205,81 +377,123 @@ public class FriendsPanel extends BasePanel {
     }
 
     /**
-     * Membuat baris untuk menampilkan pengguna.
-     * 
-     * @param user pengguna yang ditampilkan
-     * @param isFriend apakah pengguna adalah teman
-     * @param showAction apakah menampilkan tombol aksi
-     * @return JPanel baris pengguna
+     * Baris untuk menampilkan pengguna.
+     * Dapat diisi ulang dengan pengguna lain melalui bind() sehingga bisa dipakai ulang.
      */
-    private JPanel createUserRow(User user, boolean isFriend, boolean showAction) {
-        JPanel row = new JPanel(new BorderLayout(12, 0));
-        row.setOpaque(false);
-        row.setBorder(BorderFactory.createEmptyBorder(8, 0, 8, 0));
-        row.setMaximumSize(new Dimension(Integer.MAX_VALUE, 50));
-
-        // Avatar
-        JPanel avatar = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                g2.setColor(PathColors.PRIMARY);
-                g2.fillOval(0, 0, 32, 32);
-                g2.setColor(Color.WHITE);
-                g2.setFont(PathFonts.SMALL_BOLD);
-                FontMetrics fm = g2.getFontMetrics();
-                String initials = user.getInitials();
-                g2.drawString(initials, (32 - fm.stringWidth(initials)) / 2,
-                    (32 - fm.getHeight()) / 2 + fm.getAscent());
-                g2.dispose();
-            }
-        };
-        avatar.setOpaque(false);
-        avatar.setPreferredSize(new Dimension(32, 32));
-        row.add(avatar, BorderLayout.WEST);
-
-        // Name panel
-        JPanel namePanel = new JPanel();
-        namePanel.setOpaque(false);
-        namePanel.setLayout(new BoxLayout(namePanel, BoxLayout.Y_AXIS));
-
-        JLabel nameLabel = new JLabel(user.getDisplayName());
-        nameLabel.setFont(PathFonts.BODY);
-        nameLabel.setForeground(PathColors.TEXT_PRIMARY);
-        namePanel.add(nameLabel);
-
-        JLabel usernameLabel = new JLabel("@" + user.getUsername());
-        usernameLabel.setFont(PathFonts.SMALL);
-        usernameLabel.setForeground(PathColors.TEXT_MUTED);
-        namePanel.add(usernameLabel);
-
-        row.add(namePanel, BorderLayout.CENTER);
-
-        // Action
-        if (showAction) {
-            if (isFriend) {
-                JLabel friendLabel = new JLabel("Friend");
+    private class UserRow extends JPanel {
+
+        /** Pengguna yang sedang ditampilkan */
+        private User user;
+
+        /** Label nama tampilan */
+        private final JLabel nameLabel;
+
+        /** Label username */
+        private final JLabel usernameLabel;
+
+        /** Label status teman */
+        private JLabel friendLabel;
+
+        /** Label aksi tambah teman */
+        private JLabel addLabel;
+
+        /**
+         * Konstruktor UserRow.
+         * 
+         * @param showAction apakah menampilkan tombol aksi
+         */
+        UserRow(boolean showAction) {
+            super(new BorderLayout(12, 0));
+            setOpaque(false);
+            setBorder(BorderFactory.createEmptyBorder(8, 0, 8, 0));
+            setMaximumSize(new Dimension(Integer.MAX_VALUE, 50));
+
+            // Avatar
+            JPanel avatar = new JPanel() {
+                @Override
+                protected void paintComponent(Graphics g) {
+                    super.paintComponent(g);
+                    if (user == null) return;
+                    AvatarRenderer.getInstance().paintAvatar(g, user, 0, 0, 32, PathFonts.SMALL_BOLD);
+                }
+            };
+            avatar.setOpaque(false);
+            avatar.setPreferredSize(new Dimension(32, 32));
+            add(avatar, BorderLayout.WEST);
+
+            // Name panel
+            JPanel namePanel = new JPanel();
+            namePanel.setOpaque(false);
+            namePanel.setLayout(new BoxLayout(namePanel, BoxLayout.Y_AXIS));
+
+            nameLabel = new JLabel();
+            nameLabel.setFont(PathFonts.BODY);
+            nameLabel.setForeground(PathColors.TEXT_PRIMARY);
+            namePanel.add(nameLabel);
+
+            usernameLabel = new JLabel();
+            usernameLabel.setFont(PathFonts.SMALL);
+            usernameLabel.setForeground(PathColors.TEXT_MUTED);
+            namePanel.add(usernameLabel);
+
+            add(namePanel, BorderLayout.CENTER);
+
+            // Action
+            if (showAction) {
+                friendLabel = new JLabel("Friend");
                 friendLabel.setFont(PathFonts.SMALL);
                 friendLabel.setForeground(PathColors.SUCCESS);
-                row.add(friendLabel, BorderLayout.EAST);
-            } else {
-                JLabel addLabel = new JLabel("+ Add");
+
+                addLabel = new JLabel("+ Add");
                 addLabel.setFont(PathFonts.SMALL);
                 addLabel.setForeground(PathColors.PRIMARY);
                 addLabel.setCursor(new Cursor(Cursor.HAND_CURSOR));
                 addLabel.addMouseListener(new java.awt.event.MouseAdapter() {
                     @Override
                     public void mouseClicked(java.awt.event.MouseEvent e) {
-                        handleAddFriend(user);
+                        if (user != null) {
+                            handleAddFriend(user);
+                        }
                     }
                 });
-                row.add(addLabel, BorderLayout.EAST);
             }
         }
 
-        return row;
+        /**
+         * Mengisi baris dengan data pengguna.
+         * 
+         * @param user pengguna yang ditampilkan
+         * @param isFriend apakah pengguna adalah teman
+         */
+        void bind(User user, boolean isFriend) {
+            bind(user, isFriend, 0);
+        }
+
+        /**
+         * Mengisi baris dengan data pengguna dan jumlah teman bersama.
+         * 
+         * @param user pengguna yang ditampilkan
+         * @param isFriend apakah pengguna adalah teman
+         * @param mutualFriends jumlah teman bersama, 0 untuk tidak ditampilkan
+         */
+        void bind(User user, boolean isFriend, int mutualFriends) {
+            this.user = user;
+            nameLabel.setText(user.getDisplayName());
+            if (mutualFriends > 0) {
+                usernameLabel.setText("@" + user.getUsername() + " · " + mutualFriends
+                    + (mutualFriends == 1 ? " mutual friend" : " mutual friends"));
+            } else {
+                usernameLabel.setText("@" + user.getUsername());
+            }
+
+            if (addLabel != null) {
+                JLabel action = isFriend ? friendLabel : addLabel;
+                JLabel other = isFriend ? addLabel : friendLabel;
+                if (other.getParent() == this) remove(other);
+                if (action.getParent() != this) add(action, BorderLayout.EAST);
+            }
+            repaint();
+        }
     }
 
     /**
@@ -299,54 +513,99 @@ public class FriendsPanel extends BasePanel {
         
         boolean success = DataStore.getInstance().addFriend(currentUser.getId(), user.getId());
         if (success) {
-            refresh();
+            refreshTimed();
             performSearch();
         }
     }
 
     /**
      * Merefresh daftar teman.
+     * Hanya mengisi ulang daftar teman dengan baris dari pool; field dan hasil
+     * pencarian dipertahankan kecuali pengguna yang login berganti.
      */
     @Override
     public void refresh() {
-        removeAll();
-        initComponents();
-        
+        markRendered();
         friendsContainer.removeAll();
 
         User currentUser = DataStore.getInstance().getCurrentUser();
-        if (currentUser == null) return;
-
-        List<String> friendIds = currentUser.getFriendIds();
-
-        if (friendIds.isEmpty()) {
-            JPanel emptyPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
-            emptyPanel.setOpaque(false);
-            emptyPanel.setBorder(BorderFactory.createEmptyBorder(20, 0, 20, 0));
-            
-            JLabel emptyLabel = new JLabel("No friends yet");
-            emptyLabel.setFont(PathFonts.BODY);
-            emptyLabel.setForeground(PathColors.TEXT_MUTED);
-            emptyPanel.add(emptyLabel);
-            friendsContainer.add(emptyPanel);
+        String userId = currentUser != null ? currentUser.getId() : null;
+        if (!Objects.equals(userId, shownUserId)) {
+            shownUserId = userId;
+            searchField.setText("");
+            performSearch();
+        }
+        if (currentUser == null) {
+            suggestionsSection.setVisible(false);
+            return;
+        }
+
+        refreshSuggestions(currentUser);
+
+        List<User> friends = DataStore.getInstance().getFriends(currentUser.getId());
+
+        if (friends.isEmpty()) {
+            friendsContainer.add(noFriendsPanel);
         } else {
-            for (String friendId : friendIds) {
-                User friend = DataStore.getInstance().getUserById(friendId);
-                if (friend != null) {
-                    JPanel row = createUserRow(friend, true, false);
+            for (int i = 0; i < friends.size(); i++) {
+                if (i == friendRowPool.size()) {
+                    UserRow row = new UserRow(false);
                     row.setBorder(BorderFactory.createCompoundBorder(
                         BorderFactory.createMatteBorder(0, 0, 1, 0, PathColors.DIVIDER),
                         BorderFactory.createEmptyBorder(12, 16, 12, 16)
                     ));
-                    friendsContainer.add(row);
+                    friendRowPool.add(row);
                 }
+                UserRow row = friendRowPool.get(i);
+                row.bind(friends.get(i), true);
+                friendsContainer.add(row);
             }
-            friendsContainer.add(Box.createVerticalStrut(80));
+            friendsContainer.add(friendsBottomSpacer);
         }
 
         friendsContainer.revalidate();
         friendsContainer.repaint();
-        revalidate();
-        repaint();
+    }
+
+    /**
+     * Mengambil versi data panel ini, yaitu versi graf pertemanan.
+     * Saran teman bisa berubah saat teman dari teman berteman, yang tidak
+     * menaikkan versi timeline pengguna.
+     * 
+     * @param userId ID pengguna yang sedang login (bisa null)
+     * @return versi graf pertemanan
+     */
+    @Override
+    protected long getDataVersion(String userId) {
+        return DataStore.getInstance().getGraphVersion();
+    }
+
+    /**
+     * Membangun ulang section saran teman menggunakan baris dari pool.
+     * Saran di-cache per pengguna oleh DataStore dan hanya dihitung ulang
+     * setelah pertemanan di sekitar pengguna berubah. Section disembunyikan
+     * jika pengguna sudah mencapai batas teman.
+     * 
+     * @param currentUser pengguna yang login
+     */
+    private void refreshSuggestions(User currentUser) {
+        suggestionsContainer.removeAll();
+        List<FriendSuggestions.Suggestion> suggestions = currentUser.canAddFriend()
+            ? DataStore.getInstance().getFriendSuggestions(currentUser.getId(), MAX_SUGGESTIONS)
+            : new ArrayList<>();
+
+        for (int i = 0; i < suggestions.size(); i++) {
+            if (i == suggestionRowPool.size()) {
+                suggestionRowPool.add(new UserRow(true));
+            }
+            FriendSuggestions.Suggestion suggestion = suggestions.get(i);
+            UserRow row = suggestionRowPool.get(i);
+            row.bind(suggestion.getUser(), false, suggestion.getMutualFriends());
+            suggestionsContainer.add(row);
+        }
+        suggestionsSection.setVisible(!suggestions.isEmpty());
+
+        suggestionsContainer.revalidate();
+        suggestionsContainer.repaint();
     }
 }
@@ -41,6 +41,9 @@ public class LoginPanel extends JPanel {
     /** Label untuk switch mode */
     private JLabel switchModeLabel;
 
+    /** Flag saat data masih dimuat di background */
+    private boolean loading = false;
+
     /**
      * Konstruktor LoginPanel.
      * 
@@ -64,7 +67,7 @@ public class LoginPanel extends JPanel {
 
         // Logo
         JLabel logoLabel = new JLabel("path");
-        logoLabel.setFont(new Font("Georgia", Font.ITALIC, 48));
+        logoLabel.setFont(PathFonts.LOGO_LARGE);
         logoLabel.setForeground(PathColors.PRIMARY);
         logoLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         container.add(logoLabel);
@@ -212,7 +215,9 @@ public class LoginPanel extends JPanel {
                 Graphics2D g2 = (Graphics2D) g.create();
                 g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-                if (getModel().isPressed()) {
+                if (!isEnabled()) {
+                    g2.setColor(PathColors.PRIMARY_LIGHT);
+                } else if (getModel().isPressed()) {
                     g2.setColor(PathColors.PRIMARY_DARK);
                 } else {
                     g2.setColor(PathColors.PRIMARY);
@@ -245,7 +250,7 @@ public class LoginPanel extends JPanel {
     private void toggleMode() {
         isRegisterMode = !isRegisterMode;
         displayNameContainer.setVisible(isRegisterMode);
-        actionButton.setText(isRegisterMode ? "Create Account" : "Sign In");
+        updateActionButton();
         switchModeLabel.setText(isRegisterMode ? "Already have an account? Sign in" : "Create an account");
         revalidate();
         repaint();
@@ -256,6 +261,8 @@ public class LoginPanel extends JPanel {
      * Melakukan login atau registrasi sesuai mode.
      */
     private void handleAction() {
+        if (loading) return;
+
         String username = usernameField.getText().trim();
         String password = new String(passwordField.getPassword());
 
@@ -309,15 +316,41 @@ public class LoginPanel extends JPanel {
         displayNameField.setText("");
         isRegisterMode = false;
         displayNameContainer.setVisible(false);
-        actionButton.setText("Sign In");
+        updateActionButton();
         switchModeLabel.setText("Create an account");
     }
 
+    /**
+     * Mengatur status loading saat data masih dimuat di background.
+     * Selama loading, form tetap bisa diisi tetapi tombol aksi dinonaktifkan.
+     * 
+     * @param loading true jika data belum siap
+     */
+    public void setLoading(boolean loading) {
+        this.loading = loading;
+        updateActionButton();
+    }
+
+    /**
+     * Mengupdate teks dan status tombol aksi sesuai mode dan status loading.
+     */
+    private void updateActionButton() {
+        actionButton.setEnabled(!loading);
+        actionButton.setCursor(new Cursor(loading ? Cursor.WAIT_CURSOR : Cursor.HAND_CURSOR));
+        if (loading) {
+            actionButton.setText("Loading...");
+        } else {
+            actionButton.setText(isRegisterMode ? "Create Account" : "Sign In");
+        }
+    }
+
     /**
      * Handler untuk menghapus semua data.
      * Menampilkan konfirmasi sebelum menghapus.
      */
     private void handleClearData() {
+        if (loading) return;
+
         int confirm = JOptionPane.showConfirmDialog(
             this,
             "This will delete ALL saved data including:\n• All users and accounts\n• All moments and posts\n• All uploaded images\n\nAre you sure?",
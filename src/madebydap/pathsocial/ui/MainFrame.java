@@ -1,5 +1,6 @@
 package madebydap.pathsocial.ui;
 
+import madebydap.pathsocial.StartupPipeline;
 import madebydap.pathsocial.data.DataStore;
 import madebydap.pathsocial.ui.components.BottomNavBar;
 import madebydap.pathsocial.ui.components.FloatingActionButton;
@@ -12,6 +13,8 @@ import java.awt.*;
  * Frame utama aplikasi Path Social.
  * Mengelola navigasi antar panel menggunakan CardLayout.
  * Mendukung sinkronisasi real-time dan memiliki FAB untuk membuat moment.
+ * Panel konten dibuat secara lazy saat pertama kali ditampilkan dan hanya
+ * di-refresh jika data yang ditampilkan sudah usang.
  * 
  * @author madebydap
  * @version 1.0
@@ -33,13 +36,13 @@ public class MainFrame extends JFrame {
     /** Panel login */
     private LoginPanel loginPanel;
     
-    /** Panel timeline */
+    /** Panel timeline (dibuat saat pertama kali ditampilkan) */
     private TimelinePanel timelinePanel;
     
-    /** Panel profil pengguna */
+    /** Panel profil pengguna (dibuat saat pertama kali ditampilkan) */
     private ProfilePanel profilePanel;
     
-    /** Panel daftar teman */
+    /** Panel daftar teman (dibuat saat pertama kali ditampilkan) */
     private FriendsPanel friendsPanel;
     
     /** Nama panel yang sedang aktif */
@@ -47,7 +50,8 @@ public class MainFrame extends JFrame {
 
     /**
      * Konstruktor MainFrame.
-     * Menginisialisasi komponen UI dan listener untuk sinkronisasi.
+     * Menginisialisasi komponen UI; listener sinkronisasi dipasang setelah
+     * tahap DATA pada StartupPipeline selesai.
      */
     public MainFrame() {
         setTitle("Path Social");
@@ -57,12 +61,20 @@ public class MainFrame extends JFrame {
         setMinimumSize(new Dimension(360, 600));
 
         initComponents();
-        setupChangeListener();
+
+        StartupPipeline pipeline = StartupPipeline.getInstance();
+        pipeline.start();
+        loginPanel.setLoading(!pipeline.isDone(StartupPipeline.Stage.DATA));
+        pipeline.onStageDone(StartupPipeline.Stage.DATA, () -> {
+            setupChangeListener();
+            loginPanel.setLoading(false);
+        });
     }
 
     /**
-     * Menginisialisasi semua komponen UI.
+     * Menginisialisasi komponen UI.
      * Menggunakan JLayeredPane untuk FAB overlay.
+     * Hanya panel login yang dibuat di sini; panel lain dibuat oleh getContentPanel.
      */
     private void initComponents() {
         JLayeredPane layeredPane = new JLayeredPane();
@@ -76,14 +88,7 @@ public class MainFrame extends JFrame {
         mainPanel.setBackground(PathColors.BACKGROUND);
 
         loginPanel = new LoginPanel(this);
-        timelinePanel = new TimelinePanel();
-        profilePanel = new ProfilePanel(this);
-        friendsPanel = new FriendsPanel();
-
         mainPanel.add(loginPanel, "login");
-        mainPanel.add(timelinePanel, "timeline");
-        mainPanel.add(profilePanel, "profile");
-        mainPanel.add(friendsPanel, "friends");
 
         container.add(mainPanel, BorderLayout.CENTER);
 
@@ -100,7 +105,9 @@ public class MainFrame extends JFrame {
             AddMomentDialog dialog = new AddMomentDialog(this, type);
             dialog.setVisible(true);
             if (dialog.isConfirmed()) {
-                timelinePanel.refresh();
+                refreshCurrentPanel();
+                // Photo moments show as pending until their image is copied or dropped
+                dialog.getCommit().whenComplete((saved, error) -> SwingUtilities.invokeLater(this::refreshCurrentPanel));
             }
         });
         fab.setBounds(400 - 72, 700 - 130, 56, 56);
@@ -132,19 +139,42 @@ public class MainFrame extends JFrame {
     }
 
     /**
-     * Merefresh panel yang sedang aktif.
+     * Merefresh panel yang sedang aktif jika datanya sudah usang.
+     * Panel lain akan di-refresh saat ditampilkan berikutnya berdasarkan versi data.
      */
     private void refreshCurrentPanel() {
-        switch (currentPanelName) {
+        if (currentPanelName.equals("login")) return;
+        getContentPanel(currentPanelName).refreshIfStale();
+    }
+
+    /**
+     * Mengambil panel konten berdasarkan nama, membuatnya jika belum ada.
+     * 
+     * @param panelName nama panel ("timeline", "profile", "friends")
+     * @return panel konten
+     */
+    private BasePanel getContentPanel(String panelName) {
+        switch (panelName) {
             case "timeline":
-                timelinePanel.refresh();
-                break;
+                if (timelinePanel == null) {
+                    timelinePanel = new TimelinePanel();
+                    mainPanel.add(timelinePanel, "timeline");
+                }
+                return timelinePanel;
             case "profile":
-                profilePanel.refresh();
-                break;
+                if (profilePanel == null) {
+                    profilePanel = new ProfilePanel(this);
+                    mainPanel.add(profilePanel, "profile");
+                }
+                return profilePanel;
             case "friends":
-                friendsPanel.refresh();
-                break;
+                if (friendsPanel == null) {
+                    friendsPanel = new FriendsPanel();
+                    mainPanel.add(friendsPanel, "friends");
+                }
+                return friendsPanel;
+            default:
+                throw new IllegalArgumentException("Unknown panel: " + panelName);
         }
     }
 
@@ -154,10 +184,12 @@ public class MainFrame extends JFrame {
      * @param panelName nama panel yang akan ditampilkan ("login", "timeline", "profile", "friends")
      */
     public void showPanel(String panelName) {
+        boolean showNav = !panelName.equals("login");
+        BasePanel contentPanel = showNav ? getContentPanel(panelName) : null;
+
         currentPanelName = panelName;
         cardLayout.show(mainPanel, panelName);
         
-        boolean showNav = !panelName.equals("login");
         bottomNav.setVisible(showNav);
         fab.setVisible(showNav);
         
@@ -165,15 +197,17 @@ public class MainFrame extends JFrame {
             bottomNav.setCurrentPanel(panelName);
         }
 
+        if (contentPanel != null) {
+            contentPanel.refreshIfStale();
+        }
+
         if (panelName.equals("timeline")) {
-            timelinePanel.refresh();
-        } else if (panelName.equals("profile")) {
-            profilePanel.refresh();
-        } else if (panelName.equals("friends")) {
-            friendsPanel.refresh();
+            timelinePanel.startAutoRefresh();
         } else if (panelName.equals("login")) {
             loginPanel.reset();
-            timelinePanel.stopAutoRefresh();
+            if (timelinePanel != null) {
+                timelinePanel.stopAutoRefresh();
+            }
         }
     }
 }
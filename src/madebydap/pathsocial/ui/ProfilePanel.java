@@ -3,17 +3,19 @@ package madebydap.pathsocial.ui;
 import madebydap.pathsocial.data.DataStore;
 import madebydap.pathsocial.model.Moment;
 import madebydap.pathsocial.model.User;
-import madebydap.pathsocial.ui.components.MomentCard;
+import madebydap.pathsocial.ui.components.AvatarRenderer;
+import madebydap.pathsocial.ui.components.MomentFeedPanel;
 import madebydap.pathsocial.ui.style.PathColors;
 import madebydap.pathsocial.ui.style.PathFonts;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.List;
+import java.util.Collections;
 
 /**
  * Panel profil pengguna dengan layout horizontal.
  * Menampilkan avatar, info pengguna, tombol logout, dan daftar moment.
+ * Daftar moment dimuat per halaman saat di-scroll.
  * 
  * @author madebydap
  * @version 1.0
@@ -26,6 +28,9 @@ public class ProfilePanel extends BasePanel {
     /** Panel konten utama */
     private JPanel contentPanel;
 
+    /** Feed moment milik pengguna dengan infinite scroll */
+    private MomentFeedPanel momentFeed;
+
     /**
      * Konstruktor ProfilePanel.
      * 
@@ -46,11 +51,19 @@ public class ProfilePanel extends BasePanel {
         contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
         contentPanel.setBackground(PathColors.BACKGROUND);
 
+        momentFeed = new MomentFeedPanel(() -> {
+            User user = DataStore.getInstance().getCurrentUser();
+            return user != null
+                ? DataStore.getInstance().getUserMoments(user.getId())
+                : Collections.<Moment>emptyList();
+        }, false, createEmptyPanel());
+
         JScrollPane scrollPane = new JScrollPane(contentPanel);
         scrollPane.setBorder(null);
         scrollPane.setBackground(PathColors.BACKGROUND);
         scrollPane.getViewport().setBackground(PathColors.BACKGROUND);
         scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+        momentFeed.attachTo(scrollPane);
 
         add(scrollPane, BorderLayout.CENTER);
     }
@@ -70,7 +83,7 @@ public class ProfilePanel extends BasePanel {
         ));
 
         JLabel logoLabel = new JLabel("path");
-        logoLabel.setFont(new Font("Georgia", Font.ITALIC, 32));
+        logoLabel.setFont(PathFonts.LOGO);
         logoLabel.setForeground(PathColors.PRIMARY);
         logoLabel.setHorizontalAlignment(SwingConstants.CENTER);
         header.add(logoLabel, BorderLayout.CENTER);
@@ -84,6 +97,7 @@ public class ProfilePanel extends BasePanel {
      */
     @Override
     public void refresh() {
+        markRendered();
         contentPanel.removeAll();
 
         User user = DataStore.getInstance().getCurrentUser();
@@ -103,21 +117,7 @@ public class ProfilePanel extends BasePanel {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                g2.setColor(PathColors.PRIMARY);
-                g2.fillOval(0, 0, 80, 80);
-
-                g2.setColor(Color.WHITE);
-                g2.setFont(new Font("SansSerif", Font.BOLD, 28));
-                String initials = user.getInitials();
-                FontMetrics fm = g2.getFontMetrics();
-                int x = (80 - fm.stringWidth(initials)) / 2;
-                int y = (80 - fm.getHeight()) / 2 + fm.getAscent();
-                g2.drawString(initials, x, y);
-
-                g2.dispose();
+                AvatarRenderer.getInstance().paintAvatar(g, user, 0, 0, 80, PathFonts.AVATAR);
             }
         };
         avatar.setOpaque(false);
@@ -175,29 +175,31 @@ public class ProfilePanel extends BasePanel {
         sectionHeader.add(momentsTitle);
         contentPanel.add(sectionHeader);
 
-        List<Moment> userMoments = DataStore.getInstance().getUserMoments(user.getId());
-        if (userMoments.isEmpty()) {
-            JPanel emptyPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
-            emptyPanel.setBackground(PathColors.BACKGROUND_WHITE);
-            emptyPanel.setBorder(BorderFactory.createEmptyBorder(30, 0, 30, 0));
-            
-            JLabel emptyLabel = new JLabel("No moments yet");
-            emptyLabel.setFont(PathFonts.BODY);
-            emptyLabel.setForeground(PathColors.TEXT_MUTED);
-            emptyPanel.add(emptyLabel);
-            contentPanel.add(emptyPanel);
-        } else {
-            for (Moment moment : userMoments) {
-                MomentCard card = new MomentCard(moment);
-                contentPanel.add(card);
-            }
-        }
+        momentFeed.reload();
+        contentPanel.add(momentFeed);
 
         contentPanel.add(Box.createVerticalStrut(80));
         contentPanel.revalidate();
         contentPanel.repaint();
     }
 
+    /**
+     * Membuat panel yang ditampilkan saat pengguna belum memiliki moment.
+     * 
+     * @return JPanel kosong
+     */
+    private JPanel createEmptyPanel() {
+        JPanel emptyPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        emptyPanel.setBackground(PathColors.BACKGROUND_WHITE);
+        emptyPanel.setBorder(BorderFactory.createEmptyBorder(30, 0, 30, 0));
+        
+        JLabel emptyLabel = new JLabel("No moments yet");
+        emptyLabel.setFont(PathFonts.BODY);
+        emptyLabel.setForeground(PathColors.TEXT_MUTED);
+        emptyPanel.add(emptyLabel);
+        return emptyPanel;
+    }
+
     /**
      * Membuat tombol logout dengan style custom.
      * 
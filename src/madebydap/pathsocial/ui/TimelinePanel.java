@@ -1,14 +1,12 @@
 package madebydap.pathsocial.ui;
 
 import madebydap.pathsocial.data.DataStore;
-import madebydap.pathsocial.model.Moment;
-import madebydap.pathsocial.ui.components.MomentCard;
+import madebydap.pathsocial.ui.components.MomentFeedPanel;
 import madebydap.pathsocial.ui.style.PathColors;
 import madebydap.pathsocial.ui.style.PathFonts;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -22,8 +20,8 @@ import java.util.concurrent.TimeUnit;
  */
 public class TimelinePanel extends BasePanel {
     
-    /** Container untuk daftar moment */
-    private JPanel momentsContainer;
+    /** Feed moment dengan infinite scroll */
+    private MomentFeedPanel momentFeed;
     
     /** Scroll pane untuk moments */
     private JScrollPane scrollPane;
@@ -31,9 +29,6 @@ public class TimelinePanel extends BasePanel {
     /** Executor untuk auto-refresh */
     private ScheduledExecutorService refreshService;
     
-    /** Jumlah moment saat ini (untuk deteksi perubahan) */
-    private int momentCount = 0;
-
     /** Interval auto-refresh dalam detik */
     private static final int REFRESH_INTERVAL_SECONDS = 15;
 
@@ -51,16 +46,16 @@ public class TimelinePanel extends BasePanel {
     protected void initComponents() {
         add(createHeader(), BorderLayout.NORTH);
 
-        momentsContainer = new JPanel();
-        momentsContainer.setLayout(new BoxLayout(momentsContainer, BoxLayout.Y_AXIS));
-        momentsContainer.setBackground(PathColors.CARD);
+        momentFeed = new MomentFeedPanel(
+            () -> DataStore.getInstance().getTimelineMoments(), true, createEmptyPanel());
 
-        scrollPane = new JScrollPane(momentsContainer);
+        scrollPane = new JScrollPane(momentFeed);
         scrollPane.setBorder(null);
         scrollPane.setBackground(PathColors.BACKGROUND);
         scrollPane.getViewport().setBackground(PathColors.BACKGROUND);
         scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
         scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+        momentFeed.attachTo(scrollPane);
 
         add(scrollPane, BorderLayout.CENTER);
     }
@@ -80,7 +75,7 @@ public class TimelinePanel extends BasePanel {
         ));
 
         JLabel logoLabel = new JLabel("path");
-        logoLabel.setFont(new Font("Georgia", Font.ITALIC, 32));
+        logoLabel.setFont(PathFonts.LOGO);
         logoLabel.setForeground(PathColors.PRIMARY);
         logoLabel.setHorizontalAlignment(SwingConstants.CENTER);
         header.add(logoLabel, BorderLayout.CENTER);
@@ -108,10 +103,7 @@ public class TimelinePanel extends BasePanel {
                 return;
             }
 
-            List<Moment> moments = DataStore.getInstance().getTimelineMoments();
-            int newCount = moments.size();
-
-            if (newCount != momentCount) {
+            if (isStale()) {
                 SwingUtilities.invokeLater(this::refreshContent);
             }
         }, REFRESH_INTERVAL_SECONDS, REFRESH_INTERVAL_SECONDS, TimeUnit.SECONDS);
@@ -137,52 +129,47 @@ public class TimelinePanel extends BasePanel {
 
     /**
      * Merefresh konten timeline.
-     * Memuat ulang moment dari DataStore dan menampilkan di UI.
+     * Tidak melakukan apa pun jika versi timeline belum berubah sejak terakhir ditampilkan.
+     * Memuat ulang moment dari DataStore lalu merekonsiliasi card berdasarkan ID moment:
+     * hanya card baru yang dibuat, card yang hilang dihapus, dan card lama dipertahankan
+     * beserta gambar yang sudah di-decode dan posisi scroll. Moment dimuat per halaman.
      */
     private void refreshContent() {
-        momentsContainer.removeAll();
-
-        List<Moment> moments = DataStore.getInstance().getTimelineMoments();
-        momentCount = moments.size();
-
-        if (moments.isEmpty()) {
-            JPanel emptyPanel = new JPanel(new GridBagLayout());
-            emptyPanel.setBackground(PathColors.CARD);
-            emptyPanel.setPreferredSize(new Dimension(400, 200));
-            
-            JPanel emptyContent = new JPanel();
-            emptyContent.setOpaque(false);
-            emptyContent.setLayout(new BoxLayout(emptyContent, BoxLayout.Y_AXIS));
-            
-            JLabel emptyIcon = new JLabel("+");
-            emptyIcon.setFont(new Font("SansSerif", Font.PLAIN, 48));
-            emptyIcon.setForeground(PathColors.BORDER);
-            emptyIcon.setAlignmentX(Component.CENTER_ALIGNMENT);
-            emptyContent.add(emptyIcon);
-            
-            emptyContent.add(Box.createVerticalStrut(12));
-            
-            JLabel emptyLabel = new JLabel("Share your first moment");
-            emptyLabel.setFont(PathFonts.BODY);
-            emptyLabel.setForeground(PathColors.TEXT_MUTED);
-            emptyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            emptyContent.add(emptyLabel);
-            
-            emptyPanel.add(emptyContent);
-            momentsContainer.add(emptyPanel);
-        } else {
-            for (int i = 0; i < moments.size(); i++) {
-                Moment moment = moments.get(i);
-                MomentCard card = new MomentCard(moment);
-                
-                card.setFirstInTimeline(i == 0);
-                card.setLastInTimeline(i == moments.size() - 1);
-                
-                momentsContainer.add(card);
-            }
-        }
+        if (!isStale()) return;
 
-        momentsContainer.revalidate();
-        momentsContainer.repaint();
+        markRendered();
+        momentFeed.reload();
+    }
+
+    /**
+     * Membuat panel yang ditampilkan saat timeline kosong.
+     * 
+     * @return JPanel timeline kosong
+     */
+    private JPanel createEmptyPanel() {
+        JPanel emptyPanel = new JPanel(new GridBagLayout());
+        emptyPanel.setBackground(PathColors.CARD);
+        emptyPanel.setPreferredSize(new Dimension(400, 200));
+        
+        JPanel emptyContent = new JPanel();
+        emptyContent.setOpaque(false);
+        emptyContent.setLayout(new BoxLayout(emptyContent, BoxLayout.Y_AXIS));
+        
+        JLabel emptyIcon = new JLabel("+");
+        emptyIcon.setFont(PathFonts.EMPTY_STATE_ICON);
+        emptyIcon.setForeground(PathColors.BORDER);
+        emptyIcon.setAlignmentX(Component.CENTER_ALIGNMENT);
+        emptyContent.add(emptyIcon);
+        
+        emptyContent.add(Box.createVerticalStrut(12));
+        
+        JLabel emptyLabel = new JLabel("Share your first moment");
+        emptyLabel.setFont(PathFonts.BODY);
+        emptyLabel.setForeground(PathColors.TEXT_MUTED);
+        emptyLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        emptyContent.add(emptyLabel);
+        
+        emptyPanel.add(emptyContent);
+        return emptyPanel;
     }
 }
@@ -0,0 +1,168 @@
+package madebydap.pathsocial.ui.components;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Clock animasi terpusat untuk semua komponen Swing.
+ * Semua animasi aktif digerakkan oleh satu javax.swing.Timer. Progress dihitung
+ * dari waktu yang berlalu, sehingga frame yang terlewat saat EDT sibuk tidak
+ * memperlambat animasi. Timer berhenti sendiri saat tidak ada animasi aktif.
+ * Semua method harus dipanggil dari EDT.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class AnimationClock {
+
+    /**
+     * Animasi yang digerakkan oleh clock.
+     * Implementasi bertanggung jawab memperbarui state dan me-repaint hanya area yang berubah.
+     */
+    public interface Animation {
+
+        /**
+         * Dipanggil setiap frame dengan progress animasi.
+         * 
+         * @param fraction progress dari 0 sampai 1
+         */
+        void update(float fraction);
+
+        /**
+         * Dipanggil sekali setelah frame terakhir (fraction = 1).
+         * Tidak dipanggil jika animasi dibatalkan.
+         */
+        default void finished() {}
+    }
+
+    /**
+     * Handle untuk animasi yang sedang berjalan.
+     */
+    public static final class Handle {
+        private final Animation animation;
+        private final long startNanos;
+        private final long durationNanos;
+        private boolean running = true;
+
+        private Handle(Animation animation, long startNanos, long durationNanos) {
+            this.animation = animation;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+        }
+
+        /**
+         * Membatalkan animasi tanpa memanggil finished().
+         */
+        public void cancel() {
+            running = false;
+        }
+
+        /**
+         * Memeriksa apakah animasi masih berjalan.
+         * 
+         * @return true jika animasi belum selesai atau dibatalkan
+         */
+        public boolean isRunning() {
+            return running;
+        }
+    }
+
+    /** Interval frame dalam milidetik (sekitar 60 fps) */
+    private static final int FRAME_INTERVAL_MS = 16;
+
+    /** Jarak minimal antar frame; tick yang lebih rapat dari ini adalah antrian EDT yang tertunda */
+    private static final long MIN_FRAME_NANOS = FRAME_INTERVAL_MS * 1_000_000L / 2;
+
+    /** Instance singleton */
+    private static AnimationClock instance;
+
+    /** Timer tunggal yang menggerakkan semua animasi */
+    private final Timer timer;
+
+    /** Animasi yang sedang berjalan */
+    private final List<Handle> active = new ArrayList<>();
+
+    /** Waktu frame terakhir (nanoTime), 0 jika belum ada */
+    private long lastFrameNanos = 0;
+
+    /**
+     * Konstruktor private untuk singleton pattern.
+     */
+    private AnimationClock() {
+        timer = new Timer(FRAME_INTERVAL_MS, e -> tick());
+        timer.setCoalesce(true);
+    }
+
+    /**
+     * Mengambil instance singleton AnimationClock.
+     * 
+     * @return instance AnimationClock
+     */
+    public static synchronized AnimationClock getInstance() {
+        if (instance == null) {
+            instance = new AnimationClock();
+        }
+        return instance;
+    }
+
+    /**
+     * Memulai animasi baru.
+     * 
+     * @param durationMs durasi animasi dalam milidetik
+     * @param animation animasi yang akan digerakkan
+     * @return handle untuk membatalkan animasi
+     */
+    public Handle start(int durationMs, Animation animation) {
+        Handle handle = new Handle(animation, System.nanoTime(), Math.max(1, durationMs) * 1_000_000L);
+        active.add(handle);
+        if (!timer.isRunning()) {
+            lastFrameNanos = 0;
+            timer.start();
+        }
+        return handle;
+    }
+
+    /**
+     * Mengambil jumlah animasi yang sedang berjalan.
+     * 
+     * @return jumlah animasi aktif
+     */
+    public int getActiveCount() {
+        return active.size();
+    }
+
+    /**
+     * Memajukan semua animasi aktif satu frame.
+     */
+    private void tick() {
+        long now = System.nanoTime();
+        if (lastFrameNanos != 0 && now - lastFrameNanos < MIN_FRAME_NANOS) {
+            return;
+        }
+        lastFrameNanos = now;
+
+        // Iterate over a snapshot: callbacks may start or cancel animations
+        Handle[] frame = active.toArray(new Handle[0]);
+        for (Handle handle : frame) {
+            if (!handle.running) {
+                active.remove(handle);
+                continue;
+            }
+
+            float fraction = Math.min(1f, (float) (now - handle.startNanos) / handle.durationNanos);
+            handle.animation.update(fraction);
+
+            if (fraction >= 1f && handle.running) {
+                handle.running = false;
+                active.remove(handle);
+                handle.animation.finished();
+            }
+        }
+        active.removeIf(handle -> !handle.running);
+
+        if (active.isEmpty()) {
+            timer.stop();
+        }
+    }
+}
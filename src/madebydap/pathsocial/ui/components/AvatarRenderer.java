@@ -0,0 +1,154 @@
+package madebydap.pathsocial.ui.components;
+
+import madebydap.pathsocial.model.User;
+import madebydap.pathsocial.ui.style.PathColors;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Renderer avatar inisial pengguna (lingkaran merah dengan inisial putih).
+ * Avatar dirasterisasi sekali per (ID pengguna, ukuran) dan disimpan dalam LRU,
+ * sehingga paint hanya menyalin bitmap. Bitmap dibuat ulang otomatis jika
+ * inisial pengguna, font, atau skala layar berubah.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class AvatarRenderer {
+
+    /** Instance singleton */
+    private static AvatarRenderer instance;
+
+    /** Jumlah avatar maksimal yang disimpan di cache */
+    private static final int MAX_ENTRIES = 512;
+
+    /** Avatar yang sudah dirasterisasi, urut dari yang paling lama tidak dipakai */
+    private final Map<String, CachedAvatar> avatars = new LinkedHashMap<String, CachedAvatar>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedAvatar> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Konstruktor private untuk singleton pattern.
+     */
+    private AvatarRenderer() {}
+
+    /**
+     * Mengambil instance singleton AvatarRenderer.
+     * 
+     * @return instance AvatarRenderer
+     */
+    public static synchronized AvatarRenderer getInstance() {
+        if (instance == null) {
+            instance = new AvatarRenderer();
+        }
+        return instance;
+    }
+
+    /**
+     * Menggambar avatar pengguna pada posisi tertentu.
+     * 
+     * @param g graphics tujuan
+     * @param user pengguna pemilik avatar
+     * @param x posisi x
+     * @param y posisi y
+     * @param size diameter avatar dalam pixel logis
+     * @param font font untuk inisial
+     */
+    public void paintAvatar(Graphics g, User user, int x, int y, int size, Font font) {
+        double scale = g instanceof Graphics2D ? ((Graphics2D) g).getTransform().getScaleX() : 1.0;
+        if (scale <= 0) scale = 1.0;
+
+        Image image = getAvatar(user, size, font, scale);
+        g.drawImage(image, x, y, size, size, null);
+    }
+
+    /**
+     * Mengambil bitmap avatar dari cache, atau merasterisasi jika belum ada atau sudah usang.
+     * 
+     * @param user pengguna pemilik avatar
+     * @param size diameter avatar dalam pixel logis
+     * @param font font untuk inisial
+     * @param scale skala layar (HiDPI)
+     * @return bitmap avatar
+     */
+    public synchronized Image getAvatar(User user, int size, Font font, double scale) {
+        String key = user.getId() + '|' + size;
+        String initials = user.getInitials();
+
+        CachedAvatar cached = avatars.get(key);
+        if (cached != null && cached.matches(initials, font, scale)) {
+            return cached.image;
+        }
+
+        Image image = render(initials, size, font, scale);
+        avatars.put(key, new CachedAvatar(initials, font, scale, image));
+        return image;
+    }
+
+    /**
+     * Menghapus semua avatar dari cache.
+     */
+    public synchronized void clear() {
+        avatars.clear();
+    }
+
+    /**
+     * Merasterisasi avatar ke image translucent.
+     * 
+     * @param initials inisial pengguna
+     * @param size diameter avatar dalam pixel logis
+     * @param font font untuk inisial
+     * @param scale skala layar (HiDPI)
+     * @return bitmap avatar
+     */
+    private static Image render(String initials, int size, Font font, double scale) {
+        int deviceSize = Math.max(1, (int) Math.ceil(size * scale));
+        BufferedImage image = new BufferedImage(deviceSize, deviceSize, BufferedImage.TYPE_INT_ARGB_PRE);
+
+        Graphics2D g2 = image.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2.scale(scale, scale);
+
+        g2.setColor(PathColors.PRIMARY);
+        g2.fillOval(0, 0, size, size);
+
+        g2.setColor(Color.WHITE);
+        g2.setFont(font);
+        FontMetrics fm = g2.getFontMetrics();
+        int x = (size - fm.stringWidth(initials)) / 2;
+        int y = (size - fm.getHeight()) / 2 + fm.getAscent();
+        g2.drawString(initials, x, y);
+
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Bitmap avatar beserta data yang digunakan untuk membuatnya.
+     */
+    private static final class CachedAvatar {
+        private final String initials;
+        private final Font font;
+        private final double scale;
+        private final Image image;
+
+        CachedAvatar(String initials, Font font, double scale, Image image) {
+            this.initials = initials;
+            this.font = font;
+            this.scale = scale;
+            this.image = image;
+        }
+
+        boolean matches(String initials, Font font, double scale) {
+            return this.initials.equals(initials) && this.font.equals(font)
+                && Double.compare(this.scale, scale) == 0;
+        }
+    }
+}
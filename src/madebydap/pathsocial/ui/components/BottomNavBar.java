@@ -78,7 +78,7 @@ public class BottomNavBar extends JPanel {
                 boolean isActive = panelName.equals(currentPanel);
                 int centerX = getWidth() / 2;
 
-                g2.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 22));
+                g2.setFont(PathFonts.NAV_ICON);
                 g2.setColor(isActive ? PathColors.PRIMARY : PathColors.TEXT_MUTED);
                 FontMetrics fm = g2.getFontMetrics();
                 g2.drawString(icon, centerX - fm.stringWidth(icon) / 2, 26);
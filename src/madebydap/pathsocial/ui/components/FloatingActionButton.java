@@ -25,9 +25,12 @@ public class FloatingActionButton extends JButton {
     
     /** Window popup untuk radial menu */
     private JWindow popupWindow;
+
+    /** Konten popup yang menggambar radial menu */
+    private JPanel popupContent;
     
-    /** Timer untuk animasi */
-    private Timer animationTimer;
+    /** Animasi expand/collapse yang sedang berjalan */
+    private AnimationClock.Handle animation;
     
     /** Progress animasi (0-1) */
     private float animationProgress = 0f;
@@ -47,6 +50,12 @@ public class FloatingActionButton extends JButton {
     /** Ukuran popup window */
     private static final int POPUP_SIZE = 240;
 
+    /** Durasi animasi expand penuh dalam milidetik */
+    private static final int EXPAND_DURATION_MS = 110;
+
+    /** Durasi animasi collapse penuh dalam milidetik */
+    private static final int COLLAPSE_DURATION_MS = 90;
+
     /**
      * Konstruktor FloatingActionButton.
      * Membuat tombol merah dengan icon plus.
@@ -104,7 +113,7 @@ public class FloatingActionButton extends JButton {
         popupWindow = new JWindow(parentWindow);
         popupWindow.setBackground(new Color(0, 0, 0, 0));
         
-        JPanel popupContent = new JPanel() {
+        popupContent = new JPanel() {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
@@ -137,40 +146,68 @@ public class FloatingActionButton extends JButton {
         popupWindow.setVisible(true);
 
         animationProgress = 0f;
-        if (animationTimer != null) animationTimer.stop();
-        animationTimer = new Timer(16, evt -> {
-            animationProgress += 0.15f;
-            if (animationProgress >= 1f) {
-                animationProgress = 1f;
-                animationTimer.stop();
-            }
-            if (popupWindow != null) popupWindow.repaint();
-            repaint();
-        });
-        animationTimer.start();
+        if (animation != null) animation.cancel();
+        animation = AnimationClock.getInstance().start(EXPAND_DURATION_MS, fraction -> setAnimationProgress(fraction));
     }
 
     /**
      * Menutup radial menu dengan animasi.
      */
     private void collapse() {
-        if (animationTimer != null) animationTimer.stop();
-        
-        animationTimer = new Timer(16, evt -> {
-            animationProgress -= 0.18f;
-            if (animationProgress <= 0f) {
-                animationProgress = 0f;
+        if (animation != null) animation.cancel();
+
+        float startProgress = animationProgress;
+        int duration = Math.round(COLLAPSE_DURATION_MS * startProgress);
+        animation = AnimationClock.getInstance().start(duration, new AnimationClock.Animation() {
+            @Override
+            public void update(float fraction) {
+                setAnimationProgress(startProgress * (1f - fraction));
+            }
+
+            @Override
+            public void finished() {
                 expanded = false;
-                animationTimer.stop();
                 if (popupWindow != null) {
                     popupWindow.dispose();
                     popupWindow = null;
+                    popupContent = null;
                 }
             }
-            if (popupWindow != null) popupWindow.repaint();
-            repaint();
         });
-        animationTimer.start();
+    }
+
+    /**
+     * Mengubah progress animasi dan me-repaint hanya area yang berubah:
+     * lingkaran radial menu pada progress lama dan baru, serta ikon plus pada tombol.
+     * 
+     * @param progress progress animasi baru (0-1)
+     */
+    private void setAnimationProgress(float progress) {
+        float previous = animationProgress;
+        animationProgress = progress;
+
+        if (popupContent != null) {
+            int extent = getRadialExtent(Math.max(previous, progress));
+            int center = POPUP_SIZE / 2;
+            popupContent.repaint(center - extent, center - extent, extent * 2, extent * 2);
+        }
+
+        int iconExtent = 12;
+        repaint(getWidth() / 2 - iconExtent, getHeight() / 2 - iconExtent, iconExtent * 2, iconExtent * 2);
+    }
+
+    /**
+     * Menghitung jarak terjauh dari tengah popup yang digambar pada progress tertentu.
+     * Mencakup overlay, tombol mini beserta bayangannya, dan tombol utama.
+     * 
+     * @param progress progress animasi (0-1)
+     * @return jarak dalam pixel dari tengah popup
+     */
+    private int getRadialExtent(float progress) {
+        int overlay = (int) (EXPAND_RADIUS * 2.5f * progress) / 2;
+        int miniButtons = (int) (EXPAND_RADIUS * progress) + MINI_BUTTON_SIZE / 2 + 3;
+        int mainButton = BUTTON_SIZE / 2 + 3;
+        return Math.min(POPUP_SIZE / 2, Math.max(overlay, Math.max(miniButtons, mainButton)) + 1);
     }
 
     /**
@@ -0,0 +1,231 @@
+package madebydap.pathsocial.ui.components;
+
+import madebydap.pathsocial.model.Moment;
+import madebydap.pathsocial.monitor.ImageDecodeEvent;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache gambar moment yang sudah di-decode.
+ * Gambar di-decode dengan subsampling sesuai ukuran tampilan maksimal MomentCard,
+ * dan disimpan dalam LRU yang dibatasi jumlah pixel total. Path yang gagal di-decode
+ * diingat (juga LRU) agar file hilang atau rusak tidak di-decode ulang di setiap card.
+ * Aman dipanggil dari thread background untuk prefetch.
+ * Lokasi thumbnail hasil ingest didapat dari resolver yang dipasang aplikasi
+ * (setThumbnailResolver); tanpa resolver, gambar asli yang di-decode.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class ImageCache {
+
+    /** Instance singleton */
+    private static ImageCache instance;
+
+    /** Batas total pixel yang disimpan (sekitar 64 MB untuk ARGB) */
+    private static final long MAX_PIXELS = 16_000_000L;
+
+    /** Jumlah path gagal decode maksimal yang diingat */
+    private static final int MAX_MISSING = 1024;
+
+    /** Lebar maksimal hasil decode (2x lebar tampilan untuk layar HiDPI) */
+    static final int MAX_DECODE_WIDTH = 500;
+
+    /** Tinggi maksimal hasil decode (2x tinggi tampilan untuk layar HiDPI) */
+    static final int MAX_DECODE_HEIGHT = 400;
+
+    /** Gambar yang sudah di-decode, urut dari yang paling lama tidak dipakai */
+    private final LinkedHashMap<String, BufferedImage> images = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Path yang gagal di-decode, urut dari yang paling lama tidak dipakai */
+    private final LinkedHashMap<String, Boolean> missing = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_MISSING;
+        }
+    };
+
+    /** Jumlah pixel dari semua gambar di cache */
+    private long totalPixels = 0;
+
+    /** Pemetaan path gambar ke path thumbnail-nya, atau null jika tidak dipakai */
+    private volatile UnaryOperator<String> thumbnailResolver;
+
+    /**
+     * Konstruktor private untuk singleton pattern.
+     */
+    private ImageCache() {}
+
+    /**
+     * Mengambil instance singleton ImageCache.
+     * 
+     * @return instance ImageCache
+     */
+    public static synchronized ImageCache getInstance() {
+        if (instance == null) {
+            instance = new ImageCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Memasang pemetaan path gambar ke path thumbnail yang dicoba lebih dulu saat decode.
+     * 
+     * @param resolver fungsi yang mengembalikan path thumbnail atau null; null untuk menonaktifkan
+     */
+    public void setThumbnailResolver(UnaryOperator<String> resolver) {
+        this.thumbnailResolver = resolver;
+    }
+
+    /**
+     * Mengambil gambar dari cache, atau men-decode dari file jika belum ada.
+     * Path yang sebelumnya gagal di-decode langsung mengembalikan null.
+     * 
+     * @param path path file gambar
+     * @return gambar hasil decode, atau null jika gagal dibaca
+     */
+    public BufferedImage get(String path) {
+        if (path == null || path.isEmpty()) return null;
+
+        synchronized (this) {
+            BufferedImage cached = images.get(path);
+            if (cached != null) return cached;
+            if (missing.containsKey(path)) return null;
+        }
+
+        BufferedImage decoded = decode(path);
+        if (decoded != null) {
+            put(path, decoded);
+        } else {
+            synchronized (this) {
+                missing.put(path, Boolean.TRUE);
+            }
+        }
+        return decoded;
+    }
+
+    /**
+     * Mengambil gambar dari cache tanpa men-decode.
+     * 
+     * @param path path file gambar
+     * @return gambar di cache, atau null jika belum ada
+     */
+    public synchronized BufferedImage peek(String path) {
+        return path != null ? images.get(path) : null;
+    }
+
+    /**
+     * Men-decode gambar pilihan pengguna ke ukuran tampilan MomentCard dan menyimpannya
+     * di cache, sehingga preview dan card yang dibuat setelah moment diposting
+     * tidak perlu men-decode di EDT.
+     * 
+     * @param file file gambar
+     * @return gambar ukuran tampilan
+     * @throws IOException jika gambar gagal di-decode
+     */
+    public BufferedImage decodeForDisplay(File file) throws IOException {
+        BufferedImage decoded = ImageScaler.readSubsampled(file, MAX_DECODE_WIDTH, MAX_DECODE_HEIGHT);
+        if (decoded == null) {
+            throw new IOException("Unsupported image format");
+        }
+        put(file.getAbsolutePath(), decoded);
+        return decoded;
+    }
+
+    /**
+     * Men-decode gambar dari semua moment yang belum ada di cache.
+     * Dipanggil dari thread background sebelum card dibuat.
+     * 
+     * @param moments daftar moment yang gambarnya akan di-prefetch
+     */
+    public void prefetch(Collection<Moment> moments) {
+        for (Moment moment : moments) {
+            if (moment.hasImage()) {
+                get(moment.getImagePath());
+            }
+        }
+    }
+
+    /**
+     * Menghapus semua gambar dan path yang gagal di-decode dari cache.
+     */
+    public synchronized void clear() {
+        images.clear();
+        missing.clear();
+        totalPixels = 0;
+    }
+
+    /**
+     * Menyimpan gambar ke cache dan membuang gambar lama jika melebihi batas.
+     * Dipakai juga oleh ingest foto agar gambar yang sudah di-decode tidak di-decode ulang.
+     * 
+     * @param path path file gambar
+     * @param image gambar hasil decode
+     */
+    public synchronized void put(String path, BufferedImage image) {
+        missing.remove(path);
+        BufferedImage previous = images.put(path, image);
+        if (previous != null) {
+            totalPixels -= pixelsOf(previous);
+        }
+        totalPixels += pixelsOf(image);
+
+        Iterator<Map.Entry<String, BufferedImage>> it = images.entrySet().iterator();
+        while (totalPixels > MAX_PIXELS && it.hasNext()) {
+            Map.Entry<String, BufferedImage> eldest = it.next();
+            if (eldest.getKey().equals(path)) continue;
+            totalPixels -= pixelsOf(eldest.getValue());
+            it.remove();
+        }
+    }
+
+    /**
+     * Men-decode gambar dengan subsampling agar tidak lebih besar dari ukuran tampilan.
+     * Jika thumbnail hasil ingest tersedia, thumbnail yang di-decode.
+     * Setiap decode dicatat sebagai event JFR ImageDecode.
+     * 
+     * @param path path file gambar
+     * @return gambar hasil decode, atau null jika gagal
+     */
+    private BufferedImage decode(String path) {
+        ImageDecodeEvent event = new ImageDecodeEvent();
+        event.begin();
+        BufferedImage image = null;
+        File source = null;
+        try {
+            UnaryOperator<String> resolver = thumbnailResolver;
+            String thumbnailPath = resolver != null ? resolver.apply(path) : null;
+            File thumbnail = thumbnailPath != null ? new File(thumbnailPath) : null;
+            source = thumbnail != null && thumbnail.isFile() ? thumbnail : new File(path);
+            image = ImageScaler.readSubsampled(source, MAX_DECODE_WIDTH, MAX_DECODE_HEIGHT);
+        } catch (Exception e) {
+            // Unreadable files are recorded with zero pixels; get() remembers them as missing
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.thumbnail = source != null && !source.getPath().equals(path);
+            event.pixels = image != null ? pixelsOf(image) : 0;
+            event.commit();
+        }
+        return image;
+    }
+
+    /**
+     * Menghitung jumlah pixel sebuah gambar.
+     * 
+     * @param image gambar
+     * @return lebar x tinggi
+     */
+    private static long pixelsOf(BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight();
+    }
+}
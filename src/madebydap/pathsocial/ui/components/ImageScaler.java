@@ -0,0 +1,108 @@
+package madebydap.pathsocial.ui.components;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Utilitas decode dan skala gambar yang dipakai bersama oleh cache, card, dan ingest foto.
+ * Decode memakai subsampling ImageReader sehingga gambar besar tidak pernah
+ * di-decode penuh, dan skala memakai langkah bilinear bertahap sebagai
+ * pengganti getScaledInstance(SCALE_SMOOTH) yang lambat.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class ImageScaler {
+
+    /**
+     * Konstruktor private untuk mencegah instansiasi.
+     */
+    private ImageScaler() {}
+
+    /**
+     * Men-decode gambar dengan subsampling agar tidak jauh lebih besar dari ukuran yang dibutuhkan.
+     * Hasil decode tetap minimal sebesar maxWidth x maxHeight (jika sumbernya cukup besar).
+     * 
+     * @param file file gambar
+     * @param maxWidth lebar yang dibutuhkan
+     * @param maxHeight tinggi yang dibutuhkan
+     * @return gambar hasil decode, atau null jika format tidak didukung
+     * @throws IOException jika file gagal dibaca
+     */
+    public static BufferedImage readSubsampled(File file, int maxWidth, int maxHeight) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            if (input == null) return null;
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int factor = Math.max(1, Math.min(width / maxWidth, height / maxHeight));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Menskalakan gambar agar muat di dalam ukuran maksimal dengan rasio tetap.
+     * Gambar yang sudah lebih kecil dikembalikan apa adanya.
+     * 
+     * @param source gambar sumber
+     * @param maxWidth lebar maksimal
+     * @param maxHeight tinggi maksimal
+     * @return gambar hasil skala
+     */
+    public static BufferedImage scaleToFit(BufferedImage source, int maxWidth, int maxHeight) {
+        double scale = Math.min((double) maxWidth / source.getWidth(), (double) maxHeight / source.getHeight());
+        if (scale >= 1.0) return source;
+
+        int width = Math.max(1, (int) (source.getWidth() * scale));
+        int height = Math.max(1, (int) (source.getHeight() * scale));
+        return scaleProgressively(source, width, height);
+    }
+
+    /**
+     * Menskalakan gambar secara bertahap (setengah ukuran per langkah) dengan bilinear.
+     * Menghasilkan kualitas mendekati SCALE_SMOOTH tanpa biaya getScaledInstance.
+     * 
+     * @param source gambar sumber
+     * @param targetWidth lebar tujuan
+     * @param targetHeight tinggi tujuan
+     * @return gambar hasil skala
+     */
+    public static BufferedImage scaleProgressively(BufferedImage source, int targetWidth, int targetHeight) {
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+
+            BufferedImage step = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g2 = step.createGraphics();
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2.drawImage(current, 0, 0, w, h, null);
+            g2.dispose();
+            current = step;
+        } while (w != targetWidth || h != targetHeight);
+
+        return current;
+    }
+}
@@ -8,21 +8,30 @@ import madebydap.pathsocial.ui.style.PathColors;
 import madebydap.pathsocial.ui.style.PathFonts;
 import madebydap.pathsocial.ui.style.PathIcons;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
+import javax.swing.event.AncestorEvent;
+import javax.swing.event.AncestorListener;
 import java.awt.*;
+import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
-import java.io.File;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Card untuk menampilkan moment di timeline.
- * Menampilkan avatar dengan icon, konten, gambar (jika ada), dan waktu.
+ * Menampilkan avatar dengan icon, konten, gambar (jika ada), dan waktu relatif
+ * yang diperbarui setiap menit oleh TimeTicker selama card terlihat, atau saat
+ * card kembali terlihat (lewat AncestorListener, tidak pernah dari paint).
  * Mendukung timeline line yang menghubungkan antar moment.
+ * Secara opsional card dapat merender dirinya sekali ke image offscreen dan
+ * memakai ulang image tersebut selama ukuran, data, dan flag timeline tidak berubah.
+ * Render cache dibatasi untuk card yang paling baru digambar agar memori tetap terkendali.
  * 
  * @author madebydap
  * @version 1.0
  */
-public class MomentCard extends JPanel {
+public class MomentCard extends JPanel implements TimeTicker.Listener {
     
     /** Data moment yang ditampilkan */
     private final Moment moment;
@@ -36,9 +45,59 @@ public class MomentCard extends JPanel {
     /** Flag apakah ini moment terakhir di timeline */
     private boolean isLast = false;
     
+    /** Label waktu relatif */
+    private JLabel timeLabel;
+
+    /** Flag apakah label waktu perlu diperbarui saat card terlihat lagi */
+    private boolean timeStale = false;
+
     /** Gambar moment (untuk tipe PHOTO) */
     private BufferedImage momentImage;
 
+    /** Raster gambar yang sudah diskalakan ke ukuran tampilan */
+    private BufferedImage renderedImage;
+
+    /** GraphicsConfiguration yang digunakan saat raster dibuat */
+    private GraphicsConfiguration renderedConfig;
+
+    /** Tinggi maksimal gambar moment */
+    private static final int IMAGE_MAX_HEIGHT = 200;
+
+    /** Radius sudut gambar moment */
+    private static final int IMAGE_CORNER_ARC = 12;
+
+    /** Property untuk mengaktifkan render cache di feed */
+    public static final String RENDER_CACHE_PROPERTY = "pathsocial.renderCache";
+
+    /** Apakah feed mengaktifkan render cache; default mati (-Dpathsocial.renderCache=true) */
+    public static final boolean RENDER_CACHE_DEFAULT = Boolean.getBoolean(RENDER_CACHE_PROPERTY);
+
+    /** Jumlah card maksimal yang menyimpan render cache sekaligus */
+    private static final int MAX_RENDER_CACHED_CARDS = 64;
+
+    /** Card yang sedang menyimpan render cache, urut dari yang paling lama tidak digambar (hanya diakses dari EDT) */
+    private static final Map<MomentCard, Boolean> RENDER_CACHED_CARDS =
+        new LinkedHashMap<MomentCard, Boolean>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<MomentCard, Boolean> eldest) {
+                if (size() <= MAX_RENDER_CACHED_CARDS) return false;
+                eldest.getKey().renderCache = null;
+                return true;
+            }
+        };
+
+    /** Flag apakah card memakai render cache */
+    private boolean renderCacheEnabled = false;
+
+    /** Hasil render seluruh card (null jika belum ada atau sudah usang) */
+    private BufferedImage renderCache;
+
+    /** Skala layar saat render cache dibuat */
+    private double renderCacheScale;
+
+    /** GraphicsConfiguration saat render cache dibuat */
+    private GraphicsConfiguration renderCacheConfig;
+
     /**
      * Konstruktor MomentCard.
      * 
@@ -49,11 +108,7 @@ public class MomentCard extends JPanel {
         this.author = DataStore.getInstance().getUserById(moment.getUserId());
         
         if (moment.hasImage()) {
-            try {
-                momentImage = ImageIO.read(new File(moment.getImagePath()));
-            } catch (Exception e) {
-                momentImage = null;
-            }
+            momentImage = ImageCache.getInstance().get(moment.getImagePath());
         }
         
         setBackground(PathColors.CARD);
@@ -61,6 +116,23 @@ public class MomentCard extends JPanel {
         setOpaque(true);
         
         initComponents();
+
+        // Stale labels are refreshed when the card is shown or scrolled, never from paint()
+        addAncestorListener(new AncestorListener() {
+            @Override
+            public void ancestorAdded(AncestorEvent event) {
+                refreshStaleTime();
+            }
+
+            @Override
+            public void ancestorMoved(AncestorEvent event) {
+                refreshStaleTime();
+            }
+
+            @Override
+            public void ancestorRemoved(AncestorEvent event) {
+            }
+        });
     }
 
     /**
@@ -70,7 +142,9 @@ public class MomentCard extends JPanel {
      * @param first true jika ini moment pertama
      */
     public void setFirstInTimeline(boolean first) {
+        if (this.isFirst == first) return;
         this.isFirst = first;
+        invalidateRenderCache();
         repaint();
     }
 
@@ -81,10 +155,43 @@ public class MomentCard extends JPanel {
      * @param last true jika ini moment terakhir
      */
     public void setLastInTimeline(boolean last) {
+        if (this.isLast == last) return;
         this.isLast = last;
+        invalidateRenderCache();
+        repaint();
+    }
+
+    /**
+     * Mengaktifkan atau menonaktifkan render cache.
+     * Jika aktif, seluruh card (termasuk komponen anak) dirender sekali ke image
+     * offscreen dan setiap paint berikutnya hanya menyalin image tersebut.
+     * 
+     * @param enabled true untuk mengaktifkan render cache
+     */
+    public void setRenderCacheEnabled(boolean enabled) {
+        if (this.renderCacheEnabled == enabled) return;
+        this.renderCacheEnabled = enabled;
+        invalidateRenderCache();
         repaint();
     }
 
+    /**
+     * Membuang render cache agar card dirender ulang pada paint berikutnya.
+     * Harus dipanggil setiap kali tampilan komponen anak berubah.
+     */
+    public void invalidateRenderCache() {
+        renderCache = null;
+    }
+
+    /**
+     * Mengambil moment yang ditampilkan card ini.
+     * 
+     * @return data moment
+     */
+    public Moment getMoment() {
+        return moment;
+    }
+
     /**
      * Menginisialisasi komponen UI.
      */
@@ -187,6 +294,8 @@ public class MomentCard extends JPanel {
 
     /**
      * Membuat panel untuk menampilkan gambar moment.
+     * Gambar diskalakan sekali ke ukuran tampilan dan disimpan sebagai raster
+     * dengan sudut melengkung, sehingga repaint hanya menyalin bitmap.
      * 
      * @return JPanel berisi gambar dengan rounded corners
      */
@@ -196,19 +305,22 @@ public class MomentCard extends JPanel {
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
                 Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
 
                 int maxWidth = getWidth();
-                int maxHeight = 200;
+                int maxHeight = IMAGE_MAX_HEIGHT;
                 
                 double scale = Math.min((double) maxWidth / momentImage.getWidth(), 
                                        (double) maxHeight / momentImage.getHeight());
                 int imgWidth = (int) (momentImage.getWidth() * scale);
                 int imgHeight = (int) (momentImage.getHeight() * scale);
+                if (imgWidth <= 0 || imgHeight <= 0) {
+                    g2.dispose();
+                    return;
+                }
 
-                g2.setClip(new java.awt.geom.RoundRectangle2D.Float(0, 0, imgWidth, imgHeight, 12, 12));
-                g2.drawImage(momentImage, 0, 0, imgWidth, imgHeight, null);
+                double deviceScale = g2.getTransform().getScaleX();
+                Image raster = getRenderedImage(imgWidth, imgHeight, deviceScale, getGraphicsConfiguration());
+                g2.drawImage(raster, 0, 0, imgWidth, imgHeight, null);
 
                 g2.dispose();
             }
@@ -217,7 +329,7 @@ public class MomentCard extends JPanel {
             public Dimension getPreferredSize() {
                 if (momentImage != null) {
                     int maxWidth = 250;
-                    int maxHeight = 200;
+                    int maxHeight = IMAGE_MAX_HEIGHT;
                     double scale = Math.min((double) maxWidth / momentImage.getWidth(), 
                                            (double) maxHeight / momentImage.getHeight());
                     return new Dimension((int)(momentImage.getWidth() * scale), 
@@ -228,10 +340,49 @@ public class MomentCard extends JPanel {
         };
         imagePanel.setOpaque(false);
         imagePanel.setAlignmentX(Component.LEFT_ALIGNMENT);
-        imagePanel.setMaximumSize(new Dimension(250, 200));
+        imagePanel.setMaximumSize(new Dimension(250, IMAGE_MAX_HEIGHT));
         return imagePanel;
     }
 
+    /**
+     * Mengambil raster gambar yang sudah diskalakan dan di-clip rounded.
+     * Raster hanya dibuat ulang saat ukuran, skala layar, atau GraphicsConfiguration berubah.
+     * 
+     * @param width lebar tampilan dalam pixel logis
+     * @param height tinggi tampilan dalam pixel logis
+     * @param deviceScale skala layar (HiDPI) dari transform Graphics
+     * @param gc konfigurasi grafis komponen (bisa null)
+     * @return raster siap blit
+     */
+    private Image getRenderedImage(int width, int height, double deviceScale, GraphicsConfiguration gc) {
+        int deviceWidth = (int) Math.ceil(width * deviceScale);
+        int deviceHeight = (int) Math.ceil(height * deviceScale);
+
+        if (renderedImage != null && renderedImage.getWidth() == deviceWidth
+                && renderedImage.getHeight() == deviceHeight && renderedConfig == gc) {
+            return renderedImage;
+        }
+
+        BufferedImage raster = gc != null
+            ? gc.createCompatibleImage(deviceWidth, deviceHeight, Transparency.TRANSLUCENT)
+            : new BufferedImage(deviceWidth, deviceHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+        BufferedImage scaled = ImageScaler.scaleProgressively(momentImage, deviceWidth, deviceHeight);
+
+        Graphics2D g2 = raster.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        float arc = (float) (IMAGE_CORNER_ARC * deviceScale);
+        g2.setComposite(AlphaComposite.Src);
+        g2.setColor(Color.WHITE);
+        g2.fill(new RoundRectangle2D.Float(0, 0, deviceWidth, deviceHeight, arc, arc));
+        g2.setComposite(AlphaComposite.SrcIn);
+        g2.drawImage(scaled, 0, 0, null);
+        g2.dispose();
+
+        renderedImage = raster;
+        renderedConfig = gc;
+        return raster;
+    }
+
     /**
      * Membuat panel waktu moment.
      * 
@@ -242,9 +393,10 @@ public class MomentCard extends JPanel {
         panel.setOpaque(false);
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
         panel.setBorder(BorderFactory.createEmptyBorder(16, 0, 0, 0));
-        panel.setPreferredSize(new Dimension(50, 50));
+        panel.setPreferredSize(new Dimension(72, 50));
 
-        JLabel timeLabel = new JLabel(moment.getFormattedTime());
+        timeLabel = new JLabel(moment.getRelativeTime());
+        timeLabel.setToolTipText(moment.getFormattedDate() + " " + moment.getFormattedTime());
         timeLabel.setFont(PathFonts.SMALL);
         timeLabel.setForeground(PathColors.TEXT_MUTED);
         timeLabel.setAlignmentX(Component.RIGHT_ALIGNMENT);
@@ -253,6 +405,103 @@ public class MomentCard extends JPanel {
         return panel;
     }
 
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        timeStale = true;
+        TimeTicker.getInstance().addListener(this);
+    }
+
+    @Override
+    public void removeNotify() {
+        TimeTicker.getInstance().removeListener(this);
+        // Detached cards must not stay reachable from the static LRU
+        RENDER_CACHED_CARDS.remove(this);
+        renderCache = null;
+        renderCacheConfig = null;
+        super.removeNotify();
+    }
+
+    /**
+     * Memperbarui label waktu relatif jika card sedang terlihat.
+     * Card yang tidak terlihat hanya ditandai dan diperbarui saat tampil atau
+     * di-scroll ke dalam viewport.
+     * 
+     * @param now waktu saat tick
+     */
+    @Override
+    public void onMinuteTick(LocalDateTime now) {
+        if (isShowing() && !getVisibleRect().isEmpty()) {
+            updateTimeLabel(now);
+        } else {
+            timeStale = true;
+        }
+    }
+
+    /**
+     * Memperbarui label waktu yang ditandai usang jika card sudah terlihat.
+     * Dipanggil dari AncestorListener (di EDT) saat card ditampilkan atau viewport bergeser.
+     */
+    private void refreshStaleTime() {
+        if (timeStale && isShowing() && !getVisibleRect().isEmpty()) {
+            updateTimeLabel(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Mengupdate teks label waktu relatif dan membuang render cache jika teks berubah.
+     * 
+     * @param now waktu acuan
+     */
+    private void updateTimeLabel(LocalDateTime now) {
+        timeStale = false;
+        String text = moment.getRelativeTime(now);
+        if (!text.equals(timeLabel.getText())) {
+            timeLabel.setText(text);
+            invalidateRenderCache();
+        }
+    }
+
+    @Override
+    public void doLayout() {
+        super.doLayout();
+        invalidateRenderCache();
+    }
+
+    @Override
+    public void paint(Graphics g) {
+        int width = getWidth();
+        int height = getHeight();
+        if (!renderCacheEnabled || width <= 0 || height <= 0) {
+            super.paint(g);
+            return;
+        }
+
+        double deviceScale = g instanceof Graphics2D ? ((Graphics2D) g).getTransform().getScaleX() : 1.0;
+        if (deviceScale <= 0) deviceScale = 1.0;
+        int deviceWidth = (int) Math.ceil(width * deviceScale);
+        int deviceHeight = (int) Math.ceil(height * deviceScale);
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+
+        if (renderCache == null || renderCache.getWidth() != deviceWidth || renderCache.getHeight() != deviceHeight
+                || renderCacheScale != deviceScale || renderCacheConfig != gc) {
+            BufferedImage image = gc != null
+                ? gc.createCompatibleImage(deviceWidth, deviceHeight, Transparency.OPAQUE)
+                : new BufferedImage(deviceWidth, deviceHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g2 = image.createGraphics();
+            g2.scale(deviceScale, deviceScale);
+            super.paint(g2);
+            g2.dispose();
+
+            renderCache = image;
+            renderCacheScale = deviceScale;
+            renderCacheConfig = gc;
+        }
+        RENDER_CACHED_CARDS.put(this, Boolean.TRUE);
+
+        g.drawImage(renderCache, 0, 0, width, height, null);
+    }
+
     @Override
     public Dimension getPreferredSize() {
         Dimension d = super.getPreferredSize();
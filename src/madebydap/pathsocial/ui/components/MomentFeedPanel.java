@@ -0,0 +1,261 @@
+package madebydap.pathsocial.ui.components;
+
+import madebydap.pathsocial.model.Moment;
+import madebydap.pathsocial.ui.style.PathColors;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Daftar MomentCard dengan infinite scroll.
+ * Halaman pertama ditampilkan langsung, halaman berikutnya dimuat di thread background
+ * (termasuk decode gambar) saat viewport mendekati akhir daftar.
+ * Card dipertahankan berdasarkan ID moment sehingga refresh tidak membangun ulang card lama.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class MomentFeedPanel extends JPanel {
+
+    /** Jumlah moment per halaman */
+    private static final int PAGE_SIZE = 20;
+
+    /** Jumlah baris tersisa sebelum halaman berikutnya mulai dimuat */
+    private static final int PREFETCH_ROWS = 5;
+
+    /** Sumber daftar moment terurut (snapshot dari DataStore) */
+    private final Supplier<List<Moment>> source;
+
+    /** Flag apakah card menampilkan ujung garis timeline pada card pertama/terakhir */
+    private final boolean timelineFlags;
+
+    /** Panel yang ditampilkan saat daftar kosong */
+    private final JComponent emptyPanel;
+
+    /** Card yang sedang ditampilkan, dengan ID moment sebagai key */
+    private final Map<String, MomentCard> cardsById = new HashMap<>();
+
+    /** Snapshot daftar moment yang sedang ditampilkan */
+    private List<Moment> snapshot = Collections.emptyList();
+
+    /** Jumlah moment dari snapshot yang sudah dibuat card-nya */
+    private int loadedCount = 0;
+
+    /** Flag apakah halaman berikutnya sedang dimuat */
+    private boolean loading = false;
+
+    /** Nomor generasi reload, untuk membuang hasil halaman dari snapshot lama */
+    private int generation = 0;
+
+    /**
+     * Konstruktor MomentFeedPanel.
+     * 
+     * @param source sumber daftar moment terurut dari terbaru
+     * @param timelineFlags true untuk menandai card pertama dan terakhir di timeline
+     * @param emptyPanel panel yang ditampilkan saat tidak ada moment
+     */
+    public MomentFeedPanel(Supplier<List<Moment>> source, boolean timelineFlags, JComponent emptyPanel) {
+        this.source = source;
+        this.timelineFlags = timelineFlags;
+        this.emptyPanel = emptyPanel;
+
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+        setBackground(PathColors.CARD);
+    }
+
+    /**
+     * Menghubungkan feed dengan scroll pane agar halaman berikutnya dimuat saat scroll.
+     * 
+     * @param scrollPane scroll pane yang berisi feed
+     */
+    public void attachTo(JScrollPane scrollPane) {
+        scrollPane.getVerticalScrollBar().getModel().addChangeListener(e -> checkLoadMore());
+    }
+
+    /**
+     * Memuat ulang snapshot dari sumber dan merekonsiliasi card yang sudah dimuat.
+     * Halaman pertama dibuat langsung di EDT.
+     */
+    public void reload() {
+        generation++;
+        loading = false;
+        snapshot = source.get();
+
+        if (snapshot.isEmpty()) {
+            cardsById.clear();
+            loadedCount = 0;
+            removeAll();
+            add(emptyPanel);
+        } else {
+            if (emptyPanel.getParent() == this) {
+                remove(emptyPanel);
+            }
+            int target = Math.min(snapshot.size(), Math.max(loadedCount, PAGE_SIZE));
+            reconcileCards(snapshot.subList(0, target));
+            loadedCount = target;
+        }
+
+        revalidate();
+        repaint();
+        SwingUtilities.invokeLater(this::checkLoadMore);
+    }
+
+    /**
+     * Membuat card secara sinkron sampai minimal count moment dari snapshot dimuat.
+     * Halaman berikutnya biasanya dimuat saat feed yang tampil di-scroll; method ini
+     * dipakai saat feed tidak tampil, misalnya di benchmark headless.
+     * 
+     * @param count jumlah moment minimal yang dimuat
+     */
+    public void loadUpTo(int count) {
+        int target = Math.min(snapshot.size(), count);
+        if (target <= loadedCount) return;
+
+        // Discard any page still loading in the background
+        generation++;
+        loading = false;
+        reconcileCards(snapshot.subList(0, target));
+        loadedCount = target;
+
+        revalidate();
+        repaint();
+    }
+
+    /**
+     * Menyesuaikan card yang ditampilkan dengan daftar moment yang dimuat.
+     * 
+     * @param moments moment yang harus ditampilkan, terurut
+     */
+    private void reconcileCards(List<Moment> moments) {
+        Set<String> newIds = new HashSet<>();
+        for (Moment moment : moments) {
+            newIds.add(moment.getId());
+        }
+
+        Iterator<Map.Entry<String, MomentCard>> it = cardsById.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, MomentCard> entry = it.next();
+            if (!newIds.contains(entry.getKey())) {
+                remove(entry.getValue());
+                it.remove();
+            }
+        }
+
+        for (int i = 0; i < moments.size(); i++) {
+            Moment moment = moments.get(i);
+            MomentCard card = cardsById.get(moment.getId());
+            if (card == null) {
+                card = createCard(moment);
+            }
+
+            if (i >= getComponentCount() || getComponent(i) != card) {
+                if (card.getParent() == this) {
+                    remove(card);
+                }
+                add(card, i);
+            }
+
+            updateFlags(card, i);
+        }
+    }
+
+    /**
+     * Membuat card baru dan mendaftarkannya berdasarkan ID moment.
+     * Render cache hanya aktif jika -Dpathsocial.renderCache=true.
+     * 
+     * @param moment moment yang ditampilkan
+     * @return card baru
+     */
+    private MomentCard createCard(Moment moment) {
+        MomentCard card = new MomentCard(moment);
+        card.setRenderCacheEnabled(MomentCard.RENDER_CACHE_DEFAULT);
+        cardsById.put(moment.getId(), card);
+        return card;
+    }
+
+    /**
+     * Mengatur flag pertama/terakhir card sesuai posisinya di snapshot.
+     * 
+     * @param card card yang diatur
+     * @param index posisi card di snapshot
+     */
+    private void updateFlags(MomentCard card, int index) {
+        if (!timelineFlags) return;
+        card.setFirstInTimeline(index == 0);
+        card.setLastInTimeline(index == snapshot.size() - 1);
+    }
+
+    /**
+     * Memeriksa apakah viewport sudah mendekati akhir feed dan memuat halaman berikutnya.
+     */
+    private void checkLoadMore() {
+        if (loading || loadedCount >= snapshot.size() || !isShowing()) return;
+
+        Rectangle visible = getVisibleRect();
+        int rowHeight = loadedCount > 0 ? Math.max(1, getHeight() / loadedCount) : 0;
+        int remaining = getHeight() - (visible.y + visible.height);
+
+        if (remaining <= PREFETCH_ROWS * rowHeight) {
+            loadNextPage();
+        }
+    }
+
+    /**
+     * Memuat halaman berikutnya di thread background, termasuk decode gambarnya,
+     * lalu menambahkan card di EDT.
+     */
+    private void loadNextPage() {
+        loading = true;
+        final int pageGeneration = generation;
+        final List<Moment> pageSource = snapshot;
+        final int from = loadedCount;
+        final int to = Math.min(pageSource.size(), from + PAGE_SIZE);
+
+        new SwingWorker<List<Moment>, Void>() {
+            @Override
+            protected List<Moment> doInBackground() {
+                List<Moment> page = new ArrayList<>(pageSource.subList(from, to));
+                ImageCache.getInstance().prefetch(page);
+                return page;
+            }
+
+            @Override
+            protected void done() {
+                if (pageGeneration != generation) return;
+                loading = false;
+
+                try {
+                    List<Moment> page = get();
+                    for (int i = 0; i < page.size(); i++) {
+                        Moment moment = page.get(i);
+                        MomentCard card = cardsById.get(moment.getId());
+                        if (card == null) {
+                            card = createCard(moment);
+                        }
+                        if (card.getParent() != MomentFeedPanel.this) {
+                            add(card);
+                        }
+                        updateFlags(card, from + i);
+                    }
+                    loadedCount = to;
+                } catch (Exception e) {
+                    System.err.println("[Feed] Failed to load page: " + e.getMessage());
+                    return;
+                }
+
+                revalidate();
+                repaint();
+                SwingUtilities.invokeLater(MomentFeedPanel.this::checkLoadMore);
+            }
+        }.execute();
+    }
+}
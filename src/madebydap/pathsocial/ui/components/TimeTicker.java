@@ -0,0 +1,112 @@
+package madebydap.pathsocial.ui.components;
+
+import javax.swing.*;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Ticker aplikasi untuk memperbarui label waktu relatif ("5m ago").
+ * Berdetak tepat di setiap pergantian menit menggunakan satu javax.swing.Timer,
+ * dan berhenti sendiri saat tidak ada listener yang terdaftar.
+ * Semua method harus dipanggil dari EDT.
+ * 
+ * @author madebydap
+ * @version 1.0
+ */
+public class TimeTicker {
+
+    /**
+     * Listener yang dipanggil setiap pergantian menit.
+     */
+    public interface Listener {
+
+        /**
+         * Dipanggil di EDT setiap pergantian menit.
+         * 
+         * @param now waktu saat tick, sama untuk semua listener
+         */
+        void onMinuteTick(LocalDateTime now);
+    }
+
+    /** Jumlah milidetik dalam satu menit */
+    private static final long MINUTE_MILLIS = 60_000L;
+
+    /** Jeda tambahan setelah pergantian menit agar tick tidak jatuh sedikit sebelum menit baru */
+    private static final int ALIGN_SLACK_MILLIS = 50;
+
+    /** Instance singleton */
+    private static TimeTicker instance;
+
+    /** Timer single-shot yang dijadwalkan ulang ke menit berikutnya */
+    private final Timer timer;
+
+    /** Listener yang terdaftar */
+    private final Set<Listener> listeners = new LinkedHashSet<>();
+
+    /**
+     * Konstruktor private untuk singleton pattern.
+     */
+    private TimeTicker() {
+        timer = new Timer(0, e -> tick());
+        timer.setRepeats(false);
+    }
+
+    /**
+     * Mengambil instance singleton TimeTicker.
+     * 
+     * @return instance TimeTicker
+     */
+    public static synchronized TimeTicker getInstance() {
+        if (instance == null) {
+            instance = new TimeTicker();
+        }
+        return instance;
+    }
+
+    /**
+     * Mendaftarkan listener dan memulai ticker jika belum berjalan.
+     * 
+     * @param listener listener yang didaftarkan
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+        if (!timer.isRunning()) {
+            scheduleNextTick();
+        }
+    }
+
+    /**
+     * Menghapus listener dan menghentikan ticker jika tidak ada listener tersisa.
+     * 
+     * @param listener listener yang dihapus
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+        if (listeners.isEmpty()) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Memanggil semua listener lalu menjadwalkan tick berikutnya.
+     */
+    private void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Listener listener : listeners.toArray(new Listener[0])) {
+            listener.onMinuteTick(now);
+        }
+        if (!listeners.isEmpty()) {
+            scheduleNextTick();
+        }
+    }
+
+    /**
+     * Menjadwalkan timer ke pergantian menit berikutnya.
+     */
+    private void scheduleNextTick() {
+        long untilNextMinute = MINUTE_MILLIS - System.currentTimeMillis() % MINUTE_MILLIS;
+        timer.setInitialDelay((int) untilNextMinute + ALIGN_SLACK_MILLIS);
+        timer.restart();
+    }
+}
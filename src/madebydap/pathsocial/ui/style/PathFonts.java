@@ -1,70 +1,194 @@
 package madebydap.pathsocial.ui.style;
 
 import java.awt.Font;
-import java.awt.GraphicsEnvironment;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Kelas yang mendefinisikan font untuk aplikasi Path Social.
  * Mencari font yang tersedia di sistem dan menggunakan fallback jika tidak ditemukan.
+ * Font family hasil pencarian disimpan di ~/.pathsocial/fonts.properties agar
+ * tidak perlu dicari ulang setiap kali aplikasi dijalankan, dan semua font
+ * turunan di-intern sehingga kode paint tidak perlu membuat objek Font baru.
  * 
  * @author madebydap
  * @version 1.0
  */
 public class PathFonts {
-    
+
+    /** Urutan prioritas font family */
+    private static final String[] PREFERRED_FONTS = {"Segoe UI", "Roboto", "Arial", "SansSerif"};
+
+    /** File cache font family yang sudah dicari */
+    private static final Path CACHE_FILE = Paths.get(System.getProperty("user.home"), ".pathsocial", "fonts.properties");
+
+    /** Registry font yang sudah dibuat, dengan key family/style/size */
+    private static final Map<String, Font> FONT_CACHE = new ConcurrentHashMap<>();
+
     /** Font family yang digunakan */
     private static final String FONT_FAMILY = getAvailableFont();
 
     /** Font untuk judul besar (28pt bold) */
-    public static final Font TITLE_LARGE = new Font(FONT_FAMILY, Font.BOLD, 28);
-    
+    public static final Font TITLE_LARGE = get(Font.BOLD, 28);
+
     /** Font untuk judul (22pt bold) */
-    public static final Font TITLE = new Font(FONT_FAMILY, Font.BOLD, 22);
-    
+    public static final Font TITLE = get(Font.BOLD, 22);
+
     /** Font untuk subjudul (16pt bold) */
-    public static final Font SUBTITLE = new Font(FONT_FAMILY, Font.BOLD, 16);
-    
+    public static final Font SUBTITLE = get(Font.BOLD, 16);
+
     /** Font untuk body text (14pt regular) */
-    public static final Font BODY = new Font(FONT_FAMILY, Font.PLAIN, 14);
-    
+    public static final Font BODY = get(Font.PLAIN, 14);
+
     /** Font untuk body text bold (14pt bold) */
-    public static final Font BODY_BOLD = new Font(FONT_FAMILY, Font.BOLD, 14);
-    
+    public static final Font BODY_BOLD = get(Font.BOLD, 14);
+
     /** Font untuk teks kecil (12pt regular) */
-    public static final Font SMALL = new Font(FONT_FAMILY, Font.PLAIN, 12);
-    
+    public static final Font SMALL = get(Font.PLAIN, 12);
+
     /** Font untuk teks kecil bold (12pt bold) */
-    public static final Font SMALL_BOLD = new Font(FONT_FAMILY, Font.BOLD, 12);
-    
+    public static final Font SMALL_BOLD = get(Font.BOLD, 12);
+
     /** Font untuk emoji/icon (20pt) */
-    public static final Font ICON = new Font("Segoe UI Emoji", Font.PLAIN, 20);
-    
+    public static final Font ICON = get("Segoe UI Emoji", Font.PLAIN, 20);
+
     /** Font untuk emoji/icon besar (32pt) */
-    public static final Font ICON_LARGE = new Font("Segoe UI Emoji", Font.PLAIN, 32);
+    public static final Font ICON_LARGE = get("Segoe UI Emoji", Font.PLAIN, 32);
+
+    /** Font untuk emoji di bottom navigation (22pt) */
+    public static final Font NAV_ICON = get("Segoe UI Emoji", Font.PLAIN, 22);
+
+    /** Font untuk logo "path" di header (32pt italic) */
+    public static final Font LOGO = get("Georgia", Font.ITALIC, 32);
+
+    /** Font untuk logo "path" di halaman login (48pt italic) */
+    public static final Font LOGO_LARGE = get("Georgia", Font.ITALIC, 48);
+
+    /** Font untuk inisial avatar profil (28pt bold) */
+    public static final Font AVATAR = get("SansSerif", Font.BOLD, 28);
+
+    /** Font untuk emoji pada empty state (48pt) */
+    public static final Font EMPTY_STATE_ICON = get("SansSerif", Font.PLAIN, 48);
 
     /**
      * Konstruktor private untuk mencegah instansiasi.
      */
     private PathFonts() {}
 
+    /**
+     * Mengambil font dengan family aplikasi dari registry.
+     * 
+     * @param style style font (Font.PLAIN, Font.BOLD, Font.ITALIC)
+     * @param size ukuran font dalam point
+     * @return font yang di-intern
+     */
+    public static Font get(int style, int size) {
+        return get(FONT_FAMILY, style, size);
+    }
+
+    /**
+     * Mengambil font dari registry, membuatnya jika belum ada.
+     * Pemanggilan dengan parameter yang sama selalu mengembalikan instance yang sama.
+     * 
+     * @param family nama font family
+     * @param style style font (Font.PLAIN, Font.BOLD, Font.ITALIC)
+     * @param size ukuran font dalam point
+     * @return font yang di-intern
+     */
+    public static Font get(String family, int style, int size) {
+        String key = family + '|' + style + '|' + size;
+        return FONT_CACHE.computeIfAbsent(key, k -> new Font(family, style, size));
+    }
+
+    /**
+     * Mengambil nama font family yang digunakan.
+     * Pemanggilan pertama memicu pencarian font sistem.
+     * 
+     * @return nama font family
+     */
+    public static String getFontFamily() {
+        return FONT_FAMILY;
+    }
+
     /**
      * Mencari font yang tersedia di sistem berdasarkan prioritas.
      * Urutan prioritas: Segoe UI, Roboto, Arial, SansSerif.
+     * Hasil dari run sebelumnya dipakai jika masih terpasang; jika tidak, setiap
+     * kandidat diperiksa langsung tanpa mengenumerasi semua font sistem.
      * 
      * @return nama font yang tersedia
      */
     private static String getAvailableFont() {
-        String[] preferredFonts = {"Segoe UI", "Roboto", "Arial", "SansSerif"};
-        GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-        String[] availableFonts = ge.getAvailableFontFamilyNames();
-
-        for (String preferred : preferredFonts) {
-            for (String available : availableFonts) {
-                if (available.equalsIgnoreCase(preferred)) {
-                    return available;
-                }
+        String preferenceKey = String.join(",", PREFERRED_FONTS);
+        Properties cache = loadCache();
+        String cached = cache.getProperty("family");
+        if (cached != null && preferenceKey.equals(cache.getProperty("preferred")) && isInstalled(cached)) {
+            return cached;
+        }
+
+        String resolved = "SansSerif";
+        for (String preferred : PREFERRED_FONTS) {
+            if (isInstalled(preferred)) {
+                resolved = preferred;
+                break;
+            }
+        }
+
+        cache.setProperty("family", resolved);
+        cache.setProperty("preferred", preferenceKey);
+        saveCache(cache);
+        return resolved;
+    }
+
+    /**
+     * Memeriksa apakah font family terpasang di sistem.
+     * Font yang tidak ditemukan akan di-fallback oleh AWT ke family "Dialog".
+     * 
+     * @param family nama font family
+     * @return true jika font tersedia
+     */
+    private static boolean isInstalled(String family) {
+        Font font = new Font(family, Font.PLAIN, 12);
+        return font.getFamily().equalsIgnoreCase(family);
+    }
+
+    /**
+     * Membaca cache font family dari file.
+     * 
+     * @return properties cache (kosong jika file belum ada atau gagal dibaca)
+     */
+    private static Properties loadCache() {
+        Properties properties = new Properties();
+        if (Files.exists(CACHE_FILE)) {
+            try (InputStream in = Files.newInputStream(CACHE_FILE)) {
+                properties.load(in);
+            } catch (IOException e) {
+                System.err.println("[Fonts] Failed to read font cache: " + e.getMessage());
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Menyimpan cache font family ke file.
+     * 
+     * @param properties properties yang akan disimpan
+     */
+    private static void saveCache(Properties properties) {
+        try {
+            Files.createDirectories(CACHE_FILE.getParent());
+            try (OutputStream out = Files.newOutputStream(CACHE_FILE)) {
+                properties.store(out, "Path Social resolved fonts");
             }
+        } catch (IOException e) {
+            System.err.println("[Fonts] Failed to write font cache: " + e.getMessage());
         }
-        return "SansSerif";
     }
 }
@@ -5,18 +5,30 @@ import madebydap.pathsocial.model.MomentType;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Kelas yang mendefinisikan icon custom untuk aplikasi Path Social.
  * Setiap icon digambar menggunakan Java 2D Graphics.
+ * Icon moment di-cache sebagai raster agar tidak digambar ulang setiap repaint.
  * 
  * @author madebydap
  * @version 1.0
  */
 public class PathIcons {
-    
+
+    /** Cache instance icon per (tipe, ukuran, warna) */
+    private static final Map<IconKey, Icon> ICON_CACHE = new ConcurrentHashMap<>();
+
+    /** Cache raster icon per (tipe, ukuran, warna, skala layar) */
+    private static final Map<IconKey, Image> RASTER_CACHE = new ConcurrentHashMap<>();
+
     /**
      * Mengambil icon berdasarkan tipe moment.
+     * Icon di-cache dan dirasterisasi sekali per skala layar, sehingga
+     * paintIcon hanya menyalin bitmap.
      * 
      * @param type tipe moment
      * @param size ukuran icon dalam pixel
@@ -24,6 +36,20 @@ public class PathIcons {
      * @return Icon yang sesuai dengan tipe moment
      */
     public static Icon getMomentIcon(MomentType type, int size, Color color) {
+        IconKey key = new IconKey(type, size, color.getRGB(), 0);
+        return ICON_CACHE.computeIfAbsent(key, k -> new CachedIcon(k, createMomentIcon(type, size, color)));
+    }
+
+    /**
+     * Membuat icon vektor baru berdasarkan tipe moment tanpa cache.
+     * Setiap paintIcon akan menggambar ulang path vektor.
+     * 
+     * @param type tipe moment
+     * @param size ukuran icon dalam pixel
+     * @param color warna icon
+     * @return Icon vektor yang sesuai dengan tipe moment
+     */
+    public static Icon createMomentIcon(MomentType type, int size, Color color) {
         switch (type) {
             case AWAKE: return new SunIcon(size, color);
             case ASLEEP: return new MoonIcon(size, color);
@@ -36,6 +62,116 @@ public class PathIcons {
         }
     }
 
+    /**
+     * Merasterisasi icon semua tipe moment ke cache sebelum dibutuhkan.
+     * Aman dipanggil dari thread background.
+     * 
+     * @param size ukuran icon dalam pixel
+     * @param color warna icon, atau null untuk warna sesuai tipe moment
+     * @param scale skala layar (HiDPI)
+     */
+    public static void warmUp(int size, Color color, double scale) {
+        for (MomentType type : MomentType.values()) {
+            Color iconColor = color != null ? color : PathColors.getMomentTypeColor(type);
+            getMomentIcon(type, size, iconColor);
+
+            IconKey rasterKey = new IconKey(type, size, iconColor.getRGB(), scale);
+            RASTER_CACHE.computeIfAbsent(rasterKey,
+                k -> rasterize(createMomentIcon(type, size, iconColor), size, scale, null));
+        }
+    }
+
+    /**
+     * Merasterisasi icon vektor ke image translucent yang kompatibel dengan layar.
+     * 
+     * @param vector icon vektor sumber
+     * @param size ukuran icon dalam pixel logis
+     * @param scale skala layar (HiDPI)
+     * @param gc konfigurasi grafis tujuan (bisa null)
+     * @return image hasil rasterisasi
+     */
+    private static Image rasterize(Icon vector, int size, double scale, GraphicsConfiguration gc) {
+        int deviceSize = Math.max(1, (int) Math.ceil(size * scale));
+        BufferedImage image = gc != null
+            ? gc.createCompatibleImage(deviceSize, deviceSize, Transparency.TRANSLUCENT)
+            : new BufferedImage(deviceSize, deviceSize, BufferedImage.TYPE_INT_ARGB_PRE);
+
+        Graphics2D g2 = image.createGraphics();
+        g2.scale(scale, scale);
+        vector.paintIcon(null, g2, 0, 0);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Icon yang menggambar dari raster cache.
+     * Raster dibuat saat pertama kali dibutuhkan untuk skala layar tertentu.
+     */
+    private static class CachedIcon implements Icon {
+        private final IconKey key;
+        private final Icon vector;
+
+        CachedIcon(IconKey key, Icon vector) {
+            this.key = key;
+            this.vector = vector;
+        }
+
+        @Override
+        public void paintIcon(Component c, Graphics g, int x, int y) {
+            double scale = g instanceof Graphics2D ? ((Graphics2D) g).getTransform().getScaleX() : 1.0;
+            if (scale <= 0) scale = 1.0;
+
+            IconKey rasterKey = new IconKey(key.type, key.size, key.rgb, scale);
+            Image raster = RASTER_CACHE.get(rasterKey);
+            if (raster == null) {
+                GraphicsConfiguration gc = c != null ? c.getGraphicsConfiguration() : null;
+                raster = rasterize(vector, key.size, scale, gc);
+                RASTER_CACHE.put(rasterKey, raster);
+            }
+            g.drawImage(raster, x, y, key.size, key.size, null);
+        }
+
+        @Override
+        public int getIconWidth() { return key.size; }
+        @Override
+        public int getIconHeight() { return key.size; }
+    }
+
+    /**
+     * Key untuk cache icon dan raster.
+     */
+    private static final class IconKey {
+        private final MomentType type;
+        private final int size;
+        private final int rgb;
+        private final double scale;
+
+        IconKey(MomentType type, int size, int rgb, double scale) {
+            this.type = type;
+            this.size = size;
+            this.rgb = rgb;
+            this.scale = scale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof IconKey)) return false;
+            IconKey other = (IconKey) o;
+            return type == other.type && size == other.size && rgb == other.rgb
+                && Double.compare(scale, other.scale) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = type.hashCode();
+            h = 31 * h + size;
+            h = 31 * h + rgb;
+            h = 31 * h + Double.hashCode(scale);
+            return h;
+        }
+    }
+
     /**
      * Icon matahari untuk moment AWAKE.
      */